@@ -0,0 +1,40 @@
+package com.starter.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// self-contained-claims 접근 토큰 하나와 캐시 크기가 다른 JwtTokenProvider
+@State(Scope.Benchmark)
+public class JwtBenchmarkState {
+
+    private static final String SECRET = "benchmarkJwtSecretKeyThatIsAtLeast256BitsLongForHS256Token";
+    private static final long ACCESS_TOKEN_EXPIRATION = 3_600_000L;
+    private static final long REFRESH_TOKEN_EXPIRATION = 604_800_000L;
+
+    // 캐시 크기 10000 (기본값)
+    JwtTokenProvider cachedProvider;
+    // 캐시 크기 0: 매번 캐시를 놓치고 HMAC 검증 + 캐시 기록 비용까지 치름 (처음 보는 토큰)
+    JwtTokenProvider coldProvider;
+    // 캐시 없이 공유 파서로 HMAC 검증만 하는 기준선
+    JwtParser parser;
+    String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, 10_000, true);
+        coldProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, 0, true);
+        parser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).build();
+        token = cachedProvider.generateAccessToken(new UserPrincipal(42L, "bench@example.com", "벤치마크", "local",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        cachedProvider.parse(token);
+    }
+}
@@ -0,0 +1,38 @@
+package com.starter.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터의 토큰 검증 비용: 캐시 적중 / 캐시 미스 / 캐시 없는 HMAC 검증
+// 캐시는 전역 LRU 라 스레드 경합도 함께 볼 것 (예: -Pjmh.args='-t 4')
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JwtTokenProviderBenchmark {
+
+    @Benchmark
+    public Optional<Claims> parseCacheHit(JwtBenchmarkState state) {
+        return state.cachedProvider.parse(state.token);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseCold(JwtBenchmarkState state) {
+        return state.coldProvider.parse(state.token);
+    }
+
+    @Benchmark
+    public Claims verifyHmac(JwtBenchmarkState state) {
+        return state.parser.parseSignedClaims(state.token).getPayload();
+    }
+}
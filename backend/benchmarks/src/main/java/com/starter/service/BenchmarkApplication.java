@@ -0,0 +1,48 @@
+package com.starter.service;
+
+import com.starter.StarterApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 벤치마크 공통: H2(MySQL 모드) 위에 애플리케이션 컨텍스트를 띄움 (Redis 없이)
+// 스키마는 운영과 같은 인덱스를 갖도록 test 프로필처럼 Flyway migration 을 적용한 뒤 validate
+final class BenchmarkApplication {
+
+    private static final String[] DEFAULT_ARGS = {
+            "--spring.profiles.active=benchmark",
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=validate",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.generate_statistics=true",
+            "--spring.sql.init.mode=never",
+            "--spring.flyway.enabled=true",
+            "--spring.flyway.locations=classpath:db/migration",
+            "--redis.enabled=false",
+            "--jwt.secret=benchmarkJwtSecretKeyThatIsAtLeast256BitsLongForHS256Token",
+            "--logging.level.root=WARN"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    // extraArgs 는 기본 인자 뒤에 붙으므로 같은 키면 기본값을 덮어씀
+    static ConfigurableApplicationContext run(List<String> extraArgs,
+                                              ApplicationContextInitializer<?>... initializers) {
+        List<String> args = new ArrayList<>(Arrays.asList(DEFAULT_ARGS));
+        args.addAll(extraArgs);
+        return new SpringApplicationBuilder(StarterApplication.class)
+                .initializers(initializers)
+                .run(args.toArray(String[]::new));
+    }
+}
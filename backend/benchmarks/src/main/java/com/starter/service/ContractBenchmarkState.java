@@ -0,0 +1,169 @@
+package com.starter.service;
+
+import com.starter.domain.Contract;
+import com.starter.domain.DepositSource;
+import com.starter.domain.Payment;
+import com.starter.domain.User;
+import com.starter.dto.request.ContractCreateRequest;
+import com.starter.dto.request.DepositSourceCreateRequest;
+import com.starter.enums.ContractType;
+import com.starter.enums.DepositSourceType;
+import com.starter.enums.PaymentCategory;
+import com.starter.enums.PaymentStatus;
+import com.starter.repository.ContractRepository;
+import com.starter.repository.DepositSourceRepository;
+import com.starter.repository.PaymentRepository;
+import com.starter.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 계약 생성 경로용 컨텍스트와 요청
+// jdbcBatching=false 는 배치 도입 전 경로(계약/보증금 출처/정기 납부를 엔티티마다 INSERT, hibernate batch_size=0)
+@State(Scope.Benchmark)
+public class ContractBenchmarkState {
+
+    @Param({"true", "false"})
+    public boolean jdbcBatching;
+
+    // 계약 하나에 딸린 보증금 출처 수
+    @Param({"3"})
+    public int depositSources;
+
+    ConfigurableApplicationContext context;
+    ContractService contractService;
+    JdbcStatementCounter jdbcStatements;
+    Long userId;
+    ContractCreateRequest request;
+
+    private UserRepository userRepository;
+    private ContractRepository contractRepository;
+    private DepositSourceRepository depositSourceRepository;
+    private PaymentRepository paymentRepository;
+    private PaymentRollupService paymentRollupService;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbcStatements = new JdbcStatementCounter();
+        List<String> args = jdbcBatching
+                ? List.of()
+                : List.of("--spring.jpa.properties.hibernate.jdbc.batch_size=0");
+        context = BenchmarkApplication.run(args,
+                applicationContext -> applicationContext.getBeanFactory().addBeanPostProcessor(jdbcStatements));
+
+        contractService = context.getBean(ContractService.class);
+        userRepository = context.getBean(UserRepository.class);
+        contractRepository = context.getBean(ContractRepository.class);
+        depositSourceRepository = context.getBean(DepositSourceRepository.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+        paymentRollupService = context.getBean(PaymentRollupService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+                "INSERT INTO users (email, password, name, role, provider, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                "bench@example.com", "{noop}bench", "벤치마크", "USER", "local", Timestamp.valueOf(LocalDateTime.now()));
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, "bench@example.com");
+
+        request = newRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    Long createContract() {
+        return jdbcBatching
+                ? contractService.createContract(userId, request).getId()
+                : createContractRowByRow();
+    }
+
+    // 배치 도입 전과 같은 INSERT 순서 (생성 시 납부 내역 선행 조회는 배치와 무관하므로 제외)
+    private Long createContractRowByRow() {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            Contract contract = new Contract();
+            contract.setUser(user);
+            contract.setType(request.getType());
+            contract.setAddress(request.getAddress());
+            contract.setJeonseDeposit(request.getJeonseDeposit());
+            contract.setMonthlyRent(request.getMonthlyRent());
+            contract.setMaintenanceFee(request.getMaintenanceFee());
+            contract.setMonthlyPaymentDay(request.getMonthlyPaymentDay());
+            contract.setStartDate(request.getStartDate());
+            contract.setEndDate(request.getEndDate());
+            Contract saved = contractRepository.save(contract);
+
+            for (DepositSourceCreateRequest dsReq : request.getDepositSources()) {
+                DepositSource ds = new DepositSource();
+                ds.setContract(saved);
+                ds.setType(dsReq.getType());
+                ds.setAmount(dsReq.getAmount());
+                ds.setBankName(dsReq.getBankName());
+                ds.setInterestRate(dsReq.getInterestRate());
+                depositSourceRepository.save(ds);
+            }
+
+            List<Payment> payments = List.of(
+                    contractPayment(user, saved.getId(), PaymentCategory.RENT, "월세", request.getMonthlyRent()),
+                    contractPayment(user, saved.getId(), PaymentCategory.MAINTENANCE, "관리비", request.getMaintenanceFee()));
+            payments.forEach(paymentRepository::save);
+            paymentRollupService.addAll(userId, payments);
+            return saved.getId();
+        });
+    }
+
+    private Payment contractPayment(User user, Long contractId, PaymentCategory category, String name, BigDecimal amount) {
+        return Payment.builder()
+                .user(user)
+                .name(name)
+                .category(category)
+                .amount(amount)
+                .paymentDay(request.getMonthlyPaymentDay())
+                .isRecurring(true)
+                .autoPay(false)
+                .status(PaymentStatus.UPCOMING)
+                .sourceType("CONTRACT")
+                .sourceId(contractId)
+                .build();
+    }
+
+    // 월세 + 관리비(정기 납부 2건)와 보증금 출처 depositSources 건
+    private ContractCreateRequest newRequest() {
+        List<DepositSourceCreateRequest> sources = new ArrayList<>();
+        for (int i = 0; i < depositSources; i++) {
+            DepositSourceType type = DepositSourceType.values()[i % DepositSourceType.values().length];
+            sources.add(new DepositSourceCreateRequest(type, BigDecimal.valueOf(10_000_000L * (i + 1)),
+                    type == DepositSourceType.BANK ? "은행 " + i : null,
+                    type == DepositSourceType.BANK ? new BigDecimal("3.5") : null));
+        }
+        ContractCreateRequest contractRequest = new ContractCreateRequest();
+        contractRequest.setType(ContractType.MONTHLY);
+        contractRequest.setAddress("서울시 벤치마크구 1");
+        contractRequest.setJeonseDeposit(BigDecimal.valueOf(50_000_000L));
+        contractRequest.setMonthlyRent(BigDecimal.valueOf(700_000L));
+        contractRequest.setMaintenanceFee(BigDecimal.valueOf(100_000L));
+        contractRequest.setMonthlyPaymentDay(25);
+        contractRequest.setStartDate(LocalDate.now());
+        contractRequest.setEndDate(LocalDate.now().plusYears(2));
+        contractRequest.setDepositSources(sources);
+        return contractRequest;
+    }
+}
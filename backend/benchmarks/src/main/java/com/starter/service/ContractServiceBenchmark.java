@@ -0,0 +1,30 @@
+package com.starter.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 계약 생성 처리량과 호출당 SQL 수 (JDBC 배치 on/off)
+// 호출당 처리 시간이 길어 JIT 안정화에 워밍업을 길게 둠
+// 배치는 H2 에서도 한 번으로 세지만 실제 왕복 감소는 MySQL rewriteBatchedStatements 에서만 생김
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ContractServiceBenchmark {
+
+    @Benchmark
+    public Long createContract(ContractBenchmarkState state, QueryCounter counter) {
+        long begin = counter.begin(state.jdbcStatements);
+        Long contractId = state.createContract();
+        counter.end(state.jdbcStatements, begin);
+        return contractId;
+    }
+}
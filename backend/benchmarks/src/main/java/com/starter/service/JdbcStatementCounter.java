@@ -0,0 +1,49 @@
+package com.starter.service;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+// DataSource 를 감싸 JDBC 로 실행된 SQL 수를 센다
+// Hibernate Statistics 는 JdbcTemplate 로 실행한 SQL 을 세지 않으므로 JDBC 배치가 섞인 경로에 사용
+// executeBatch 는 한 번으로 센다 (MySQL rewriteBatchedStatements 에서는 한 번의 왕복)
+final class JdbcStatementCounter implements BeanPostProcessor {
+
+    private final AtomicLong statements = new AtomicLong();
+
+    long statements() {
+        return statements.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource ? wrap(bean) : bean;
+    }
+
+    // DataSource -> Connection -> Statement 순으로 감싸고 execute* 호출을 센다
+    private Object wrap(Object target) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass());
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                statements.incrementAndGet();
+            }
+            Class<?> returnType = method.getReturnType();
+            if (result != null && (returnType == Connection.class || Statement.class.isAssignableFrom(returnType))) {
+                return wrap(result);
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.starter.service;
+
+import com.starter.enums.PaymentCategory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+// 애플리케이션 컨텍스트를 띄우고 한 사용자의 납부 데이터를 시드한다
+@State(Scope.Benchmark)
+public class PaymentBenchmarkState {
+
+    private static final PaymentCategory[] CATEGORIES = PaymentCategory.values();
+
+    // 사용자당 정기 납부 템플릿 수
+    @Param({"10", "100", "1000"})
+    public int templates;
+
+    // 현재 월 기준 과거 몇 년치 납부 내역을 만들지
+    @Param({"5"})
+    public int years;
+
+    // 월별 예정일이 있는 납부 내역 수 (일부는 템플릿과 같은 이름으로 만들어 가상 항목 중복 제거 경로를 탄다)
+    @Param({"20"})
+    public int paymentsPerMonth;
+
+    ConfigurableApplicationContext context;
+    PaymentService paymentService;
+    Statistics statistics;
+    Long userId;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(List.of());
+
+        paymentService = context.getBean(PaymentService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        today = LocalDate.now(context.getBean(Clock.class));
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(PaymentRollupService.class).rebuild(userId);
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO users (email, password, name, role, provider, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                "bench@example.com", "{noop}bench", "벤치마크", "USER", "local", now);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, "bench@example.com");
+
+        String insertPayment = "INSERT INTO payments (user_id, name, category, amount, payment_day, is_recurring, auto_pay, "
+                + "due_date, paid_date, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < templates; i++) {
+            rows.add(new Object[]{userId, templateName(i), CATEGORIES[i % CATEGORIES.length].name(),
+                    BigDecimal.valueOf(10_000L + i * 100L), i % 28 + 1, true, i % 2 == 0,
+                    null, null, "UPCOMING", now});
+        }
+        jdbcTemplate.batchUpdate(insertPayment, rows);
+
+        // 과거 years 년부터 올해 12월까지 (개요 조회 범위 전체)
+        YearMonth current = YearMonth.from(today);
+        YearMonth end = YearMonth.of(today.getYear(), 12);
+        for (YearMonth ym = current.minusYears(years); !ym.isAfter(end); ym = ym.plusMonths(1)) {
+            rows.clear();
+            boolean past = ym.isBefore(current);
+            for (int j = 0; j < paymentsPerMonth; j++) {
+                // 절반은 템플릿을 실체화한 항목으로 간주
+                String name = j % 2 == 0 && j / 2 < templates ? templateName(j / 2) : "지출 " + j;
+                PaymentCategory category = j % 2 == 0 && j / 2 < templates
+                        ? CATEGORIES[(j / 2) % CATEGORIES.length]
+                        : CATEGORIES[j % CATEGORIES.length];
+                LocalDate dueDate = ym.atDay(j % ym.lengthOfMonth() + 1);
+                rows.add(new Object[]{userId, name, category.name(), BigDecimal.valueOf(5_000L + j * 1_000L),
+                        dueDate.getDayOfMonth(), false, false, Date.valueOf(dueDate),
+                        past ? Date.valueOf(dueDate) : null, past ? "PAID" : "UPCOMING", now});
+            }
+            jdbcTemplate.batchUpdate(insertPayment, rows);
+        }
+    }
+
+    private static String templateName(int index) {
+        return "정기 납부 " + index;
+    }
+}
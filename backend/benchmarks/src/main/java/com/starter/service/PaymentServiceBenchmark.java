@@ -0,0 +1,42 @@
+package com.starter.service;
+
+import com.starter.dto.response.PaymentCalendarResponse;
+import com.starter.dto.response.PaymentOverviewResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 납부 캘린더/개요 조회 경로 처리량 측정
+// 할당률은 gc 프로파일러(-prof gc), 쿼리 수는 QueryCounter 로 확인
+// 실제 요청과 같이 @Transactional 공개 메서드(프록시)를 거쳐 호출해 트랜잭션/세션 비용까지 포함
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PaymentServiceBenchmark {
+
+    @Benchmark
+    public PaymentCalendarResponse getMonthlyPayments(PaymentBenchmarkState state, QueryCounter counter) {
+        long begin = counter.begin(state.statistics);
+        PaymentCalendarResponse result = state.paymentService.getMonthlyPayments(
+                state.userId, state.today.getYear(), state.today.getMonthValue());
+        counter.end(state.statistics, begin);
+        return result;
+    }
+
+    // 12월 개요는 전년 12월부터 올해 전체를 집계하므로 가장 넓은 범위
+    @Benchmark
+    public PaymentOverviewResponse getOverview(PaymentBenchmarkState state, QueryCounter counter) {
+        long begin = counter.begin(state.statistics);
+        PaymentOverviewResponse result = state.paymentService.getOverview(state.userId, state.today.getYear(), 12);
+        counter.end(state.statistics, begin);
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.starter.service;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 반복(iteration)별 실행된 SQL 수를 보조 카운터로 보고
+// statements / calls 가 호출 1회당 쿼리 수
+// Hibernate Statistics 또는 JDBC 배치까지 세는 JdbcStatementCounter 를 기준으로 사용
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class QueryCounter {
+
+    public long statements;
+    public long calls;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+        calls = 0;
+    }
+
+    long begin(Statistics statistics) {
+        return statistics.getPrepareStatementCount();
+    }
+
+    void end(Statistics statistics, long begin) {
+        statements += statistics.getPrepareStatementCount() - begin;
+        calls++;
+    }
+
+    long begin(JdbcStatementCounter counter) {
+        return counter.statements();
+    }
+
+    void end(JdbcStatementCounter counter, long begin) {
+        statements += counter.statements() - begin;
+        calls++;
+    }
+}
@@ -0,0 +1,18 @@
+package com.starter.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+public class ClockConfig {
+
+    // 서버 JVM 시간대와 무관하게 "오늘"을 서비스 기준 시간대로 계산 (연체 판정, 연체 작업, ETag 날짜가 같은 날짜를 보게 함)
+    @Bean
+    public Clock clock(@Value("${app.time-zone:Asia/Seoul}") String zone) {
+        return Clock.system(ZoneId.of(zone));
+    }
+}
@@ -4,21 +4,47 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
 
 @Configuration
 public class S3Config {
 
     @Bean
     @ConditionalOnProperty(prefix = "storage.s3", name = "enabled", havingValue = "true")
-    public S3Client s3Client(@Value("${storage.s3.region:ap-northeast-2}") String region) {
-        return S3Client.builder()
+    public S3Client s3Client(@Value("${storage.s3.region:ap-northeast-2}") String region,
+                             @Value("${storage.s3.endpoint:}") String endpoint) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build());
+        // MinIO 등 S3 호환 저장소 (로컬 개발/테스트)
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    // 다운로드용 임시 URL 서명 (S3Client 와 같은 리전/엔드포인트/경로 방식이어야 서명이 맞음)
+    @Bean
+    @ConditionalOnProperty(prefix = "storage.s3", name = "enabled", havingValue = "true")
+    public S3Presigner s3Presigner(@Value("${storage.s3.region:ap-northeast-2}") String region,
+                                   @Value("${storage.s3.endpoint:}") String endpoint) {
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .serviceConfiguration(S3Configuration.builder()
                         .pathStyleAccessEnabled(true)
-                        .build())
-                .build();
+                        .build());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,30 @@
+package com.starter.controller;
+
+import com.starter.service.PaymentRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/payment-rollups")
+@RequiredArgsConstructor
+public class AdminPaymentRollupController {
+
+    private final PaymentRollupService paymentRollupService;
+
+    // payments 테이블 기준 롤업 재생성 (userId 미지정 시 전체 사용자)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(@RequestParam(required = false) Long userId) {
+        if (userId != null) {
+            int rows = paymentRollupService.rebuild(userId);
+            return ResponseEntity.ok(Map.of("userId", userId, "rollupRows", rows));
+        }
+        int users = paymentRollupService.rebuildAll();
+        return ResponseEntity.ok(Map.of("rebuiltUsers", users));
+    }
+}
@@ -70,7 +70,17 @@ public class AuthController {
     }
 
     @PostMapping("/auth/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
+        String authorization = request.getHeader("Authorization");
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : CookieUtils.getCookie(request, appProperties.getAuth().getAccessCookieName())
+                        .map(jakarta.servlet.http.Cookie::getValue)
+                        .orElse(null);
+        String refreshToken = CookieUtils.getCookie(request, appProperties.getAuth().getRefreshCookieName())
+                .map(jakarta.servlet.http.Cookie::getValue)
+                .orElse(null);
+        authService.logout(accessToken, refreshToken);
         clearAuthCookies(response);
         return ResponseEntity.noContent().build();
     }
@@ -169,9 +179,9 @@ public class AuthController {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        authService.deleteAccount(principal.getEmail());
+        authService.requestAccountDeletion(principal.getEmail());
         clearAuthCookies(response);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 
     private void writeAuthCookies(HttpServletResponse response, TokenResponse token) {
@@ -8,16 +8,12 @@ import com.starter.service.ChecklistService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,6 +21,7 @@ import java.util.List;
 public class ChecklistController {
 
     private final ChecklistService checklistService;
+    private final FileResponses fileResponses;
 
     @GetMapping("/api/contracts/{contractId}/checklists")
     public ResponseEntity<List<ChecklistResponse>> getChecklistsByContract(
@@ -90,12 +87,7 @@ public class ChecklistController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = checklistService.downloadFile(principal.getId(), id);
-        String encodedName = URLEncoder.encode(resource.getFilename(), StandardCharsets.UTF_8)
-                .replace("+", "%20");
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedName)
-                .body(resource);
+        return fileResponses.attachment(resource);
     }
 
     @GetMapping("/api/checklists/{id}/preview")
@@ -103,15 +95,7 @@ public class ChecklistController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = checklistService.downloadFile(principal.getId(), id);
-        String fileName = resource.getFilename() != null ? resource.getFilename().toLowerCase() : "";
-        MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-        if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) mediaType = MediaType.IMAGE_JPEG;
-        else if (fileName.endsWith(".png")) mediaType = MediaType.IMAGE_PNG;
-        else if (fileName.endsWith(".pdf")) mediaType = MediaType.APPLICATION_PDF;
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .body(resource);
+        return fileResponses.inline(resource);
     }
 
     @DeleteMapping("/api/checklists/{id}/file")
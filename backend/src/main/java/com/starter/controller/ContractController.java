@@ -2,14 +2,18 @@ package com.starter.controller;
 
 import com.starter.dto.request.ContractCreateRequest;
 import com.starter.dto.response.ContractResponse;
+import com.starter.dto.response.ContractWorkspaceResponse;
 import com.starter.security.UserPrincipal;
 import com.starter.service.ContractService;
+import com.starter.service.ContractWorkspaceService;
+import com.starter.service.UserDataVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,6 +23,8 @@ import java.util.List;
 public class ContractController {
 
     private final ContractService contractService;
+    private final ContractWorkspaceService contractWorkspaceService;
+    private final UserDataVersionService userDataVersionService;
 
     @PostMapping
     public ResponseEntity<ContractResponse> createContract(
@@ -30,15 +36,38 @@ public class ContractController {
 
     @GetMapping
     public ResponseEntity<List<ContractResponse>> getMyContracts(
-            @AuthenticationPrincipal UserPrincipal principal) {
-        return ResponseEntity.ok(contractService.getContractsByUserId(principal.getId()));
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
+        return ResponseEntity.ok(contractService.getContractsByUserId(userId));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ContractResponse> getContract(
             @AuthenticationPrincipal UserPrincipal principal,
-            @PathVariable Long id) {
-        return ResponseEntity.ok(contractService.getContract(principal.getId(), id));
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
+        return ResponseEntity.ok(contractService.getContract(userId, id));
+    }
+
+    // 계약 상세 화면용 통합 조회 (계약, 체크리스트와 단계별 진행률, 문서, 특약, 유지보수)
+    @GetMapping("/{id}/workspace")
+    public ResponseEntity<ContractWorkspaceResponse> getWorkspace(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
+        return ResponseEntity.ok(contractWorkspaceService.getWorkspace(userId, id));
     }
 
     @PutMapping("/{id}")
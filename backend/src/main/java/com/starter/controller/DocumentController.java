@@ -8,16 +8,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.ResourceClosedException;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,6 +21,7 @@ import java.util.List;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final FileResponses fileResponses;
 
     @GetMapping("/api/contracts/{contractId}/documents")
     public ResponseEntity<List<DocumentResponse>> getDocumentsByContract(
@@ -71,12 +68,7 @@ public class DocumentController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = documentService.downloadFile(principal.getId(), id);
-        String encodedName = URLEncoder.encode(resource.getFilename(), StandardCharsets.UTF_8)
-                .replace("+", "%20");
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedName)
-                .body(resource);
+        return fileResponses.attachment(resource);
     }
 
     @GetMapping("/api/documents/{id}/preview")
@@ -84,17 +76,7 @@ public class DocumentController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = documentService.downloadFile(principal.getId(), id);
-        String fileName = resource.getFilename() != null ? resource.getFilename().toLowerCase() : "";
-        MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-        if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) mediaType = MediaType.IMAGE_JPEG;
-        else if (fileName.endsWith(".png")) mediaType = MediaType.IMAGE_PNG;
-        else if (fileName.endsWith(".gif")) mediaType = MediaType.IMAGE_GIF;
-        else if (fileName.endsWith(".pdf")) mediaType = MediaType.APPLICATION_PDF;
-        else if (fileName.endsWith(".webp")) mediaType = MediaType.valueOf("image/webp");
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .body(resource);
+        return fileResponses.inline(resource);
     }
 
 }
@@ -0,0 +1,87 @@
+package com.starter.controller;
+
+import com.starter.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+
+// 첨부 파일 다운로드/미리보기 응답 (체크리스트, 서류, 특약, 유지보수 공통)
+// 저장소 스트림을 그대로 응답 본문으로 쓰고, 임시 URL 모드면 302 로 저장소에 직접 받게 함
+@Component
+@RequiredArgsConstructor
+class FileResponses {
+
+    // 미리보기(inline)로 내려줄 수 있는 형식, 그 외는 octet-stream
+    private static final Set<MediaType> PREVIEW_TYPES = Set.of(
+            MediaType.IMAGE_JPEG,
+            MediaType.IMAGE_PNG,
+            MediaType.IMAGE_GIF,
+            MediaType.APPLICATION_PDF,
+            MediaType.valueOf("image/webp"));
+
+    private final FileStorageService fileStorageService;
+
+    ResponseEntity<Resource> attachment(Resource resource) {
+        String encodedName = URLEncoder.encode(resource.getFilename(), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+        Optional<MediaType> storedType = fileStorageService.contentTypeOf(resource).flatMap(FileResponses::parse);
+        String contentDisposition = "attachment; filename*=UTF-8''" + encodedName;
+        // 임시 URL 이면 형식을 덮어쓰지 않고 S3 에 저장된 Content-Type 을 그대로 사용
+        Optional<URI> presignedUrl = fileStorageService.presignedUrl(resource, null, contentDisposition);
+        return presignedUrl.map(FileResponses::redirect)
+                .orElseGet(() -> ok(resource, storedType.orElse(MediaType.APPLICATION_OCTET_STREAM), contentDisposition));
+    }
+
+    ResponseEntity<Resource> inline(Resource resource) {
+        MediaType mediaType = fileStorageService.contentTypeOf(resource)
+                .flatMap(FileResponses::parse)
+                .filter(PREVIEW_TYPES::contains)
+                .orElseGet(() -> previewTypeOf(resource.getFilename()));
+        // 미리보기는 임시 URL 에도 허용된 형식만 지정 (저장된 형식을 그대로 inline 으로 열지 않도록)
+        Optional<URI> presignedUrl = fileStorageService.presignedUrl(resource, mediaType.toString(), "inline");
+        return presignedUrl.map(FileResponses::redirect)
+                .orElseGet(() -> ok(resource, mediaType, "inline"));
+    }
+
+    private static ResponseEntity<Resource> redirect(URI presignedUrl) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(presignedUrl)
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build();
+    }
+
+    private static ResponseEntity<Resource> ok(Resource resource, MediaType mediaType, String contentDisposition) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .body(resource);
+    }
+
+    private static MediaType previewTypeOf(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase() : "";
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg")) return MediaType.IMAGE_JPEG;
+        if (name.endsWith(".png")) return MediaType.IMAGE_PNG;
+        if (name.endsWith(".gif")) return MediaType.IMAGE_GIF;
+        if (name.endsWith(".pdf")) return MediaType.APPLICATION_PDF;
+        if (name.endsWith(".webp")) return MediaType.valueOf("image/webp");
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    private static Optional<MediaType> parse(String contentType) {
+        try {
+            return Optional.of(MediaType.parseMediaType(contentType)).filter(MediaType::isConcrete);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
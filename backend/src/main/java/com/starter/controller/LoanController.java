@@ -2,14 +2,16 @@ package com.starter.controller;
 
 import com.starter.dto.request.LoanCreateRequest;
 import com.starter.dto.response.LoanResponse;
+import com.starter.security.UserPrincipal;
 import com.starter.service.LoanService;
+import com.starter.service.UserDataVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -20,56 +22,69 @@ import java.util.Map;
 public class LoanController {
 
     private final LoanService loanService;
+    private final UserDataVersionService userDataVersionService;
 
     @GetMapping
     public ResponseEntity<List<LoanResponse>> getAllLoans(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         List<LoanResponse> loans = loanService.getAllLoans(userId);
         return ResponseEntity.ok(loans);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<LoanResponse> getLoan(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable Long id) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         LoanResponse loan = loanService.getLoan(userId, id);
         return ResponseEntity.ok(loan);
     }
 
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Object>> getLoanSummary(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         Map<String, Object> summary = loanService.getLoanSummary(userId);
         return ResponseEntity.ok(summary);
     }
 
     @PostMapping
     public ResponseEntity<LoanResponse> createLoan(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody LoanCreateRequest request) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         LoanResponse loan = loanService.createLoan(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(loan);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<LoanResponse> updateLoan(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody LoanCreateRequest request) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         LoanResponse loan = loanService.updateLoan(userId, id, request);
         return ResponseEntity.ok(loan);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLoan(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
-        Long userId = loanService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         loanService.deleteLoan(userId, id);
         return ResponseEntity.noContent().build();
     }
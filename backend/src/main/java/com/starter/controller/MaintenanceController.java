@@ -8,16 +8,12 @@ import com.starter.service.MaintenanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,6 +21,7 @@ import java.util.List;
 public class MaintenanceController {
 
     private final MaintenanceService maintenanceService;
+    private final FileResponses fileResponses;
 
     @GetMapping("/api/contracts/{contractId}/maintenances")
     public ResponseEntity<List<MaintenanceResponse>> getMaintenancesByContract(
@@ -83,12 +80,7 @@ public class MaintenanceController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = maintenanceService.downloadFile(principal.getId(), id);
-        String encodedName = URLEncoder.encode(resource.getFilename(), StandardCharsets.UTF_8)
-                .replace("+", "%20");
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedName)
-                .body(resource);
+        return fileResponses.attachment(resource);
     }
 
     @GetMapping("/api/maintenances/{id}/preview")
@@ -96,15 +88,7 @@ public class MaintenanceController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
         Resource resource = maintenanceService.downloadFile(principal.getId(), id);
-        String fileName = resource.getFilename() != null ? resource.getFilename().toLowerCase() : "";
-        MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-        if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) mediaType = MediaType.IMAGE_JPEG;
-        else if (fileName.endsWith(".png")) mediaType = MediaType.IMAGE_PNG;
-        else if (fileName.endsWith(".pdf")) mediaType = MediaType.APPLICATION_PDF;
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .body(resource);
+        return fileResponses.inline(resource);
     }
 
     @DeleteMapping("/api/maintenances/{id}/file")
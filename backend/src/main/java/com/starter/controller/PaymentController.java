@@ -1,19 +1,35 @@
 package com.starter.controller;
 
+import com.starter.dto.request.PaymentBulkStatusRequest;
 import com.starter.dto.request.PaymentCreateRequest;
+import com.starter.dto.response.PaymentBulkStatusResponse;
 import com.starter.dto.response.PaymentCalendarResponse;
+import com.starter.dto.response.PaymentImportResponse;
 import com.starter.dto.response.PaymentOverviewResponse;
+import com.starter.dto.response.PaymentPageResponse;
 import com.starter.dto.response.PaymentResponse;
 import com.starter.enums.PaymentStatus;
+import com.starter.security.UserPrincipal;
+import com.starter.service.PaymentImportService;
 import com.starter.service.PaymentService;
+import com.starter.service.UserDataVersionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -22,108 +38,197 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final UserDataVersionService userDataVersionService;
+    private final PaymentImportService paymentImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/calendar/{year}/{month}")
     public ResponseEntity<PaymentCalendarResponse> getMonthlyPayments(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable int year,
-            @PathVariable int month) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+            @PathVariable int month,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         PaymentCalendarResponse response = paymentService.getMonthlyPayments(userId, year, month);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/overview/{year}/{month}")
     public ResponseEntity<PaymentOverviewResponse> getOverview(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable int year,
-            @PathVariable int month) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+            @PathVariable int month,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         PaymentOverviewResponse response = paymentService.getOverview(userId, year, month);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
     public ResponseEntity<List<PaymentResponse>> getAllPayments(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(required = false) PaymentStatus status) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) PaymentStatus status,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         List<PaymentResponse> payments = paymentService.getAllPayments(userId, status);
         return ResponseEntity.ok(payments);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PaymentPageResponse> getPaymentPage(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
+        PaymentPageResponse response = paymentService.getPaymentPage(userId, status, after, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) PaymentStatus status) {
+        Long userId = principal.getId();
+        ObjectWriter writer = objectMapper.writerFor(PaymentResponse.class);
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream);
+            paymentService.exportPayments(userId, status, payment -> {
+                try {
+                    out.write(writer.writeValueAsBytes(payment));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payments.ndjson\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PaymentResponse> getPayment(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable Long id) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         PaymentResponse response = paymentService.getPayment(userId, id);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping
     public ResponseEntity<PaymentResponse> createPayment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody PaymentCreateRequest request) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         PaymentResponse response = paymentService.createPayment(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<PaymentImportResponse> importPaymentsCsv(
+            @AuthenticationPrincipal UserPrincipal principal,
+            InputStream body) {
+        Long userId = principal.getId();
+        PaymentImportResponse response = paymentImportService.importCsv(userId, body);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PaymentImportResponse> importPaymentsNdjson(
+            @AuthenticationPrincipal UserPrincipal principal,
+            InputStream body) {
+        Long userId = principal.getId();
+        PaymentImportResponse response = paymentImportService.importNdjson(userId, body);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PaymentResponse> updatePayment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody PaymentCreateRequest request) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         PaymentResponse response = paymentService.updatePayment(userId, id, request);
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<PaymentResponse> updatePaymentStatus(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id,
             @RequestParam PaymentStatus status) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         PaymentResponse response = paymentService.updatePaymentStatus(userId, id, status);
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<PaymentBulkStatusResponse> updatePaymentStatuses(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody PaymentBulkStatusRequest request) {
+        Long userId = principal.getId();
+        PaymentBulkStatusResponse response = paymentService.updatePaymentStatuses(userId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePayment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long id) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         paymentService.deletePayment(userId, id);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/recurring")
     public ResponseEntity<Long> createRecurringPayment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody PaymentCreateRequest request) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         Long paymentId = paymentService.createRecurringPayment(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(paymentId);
     }
 
     @DeleteMapping("/source/{sourceType}/{sourceId}")
     public ResponseEntity<Void> deletePaymentsBySource(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String sourceType,
             @PathVariable Long sourceId) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         paymentService.deletePaymentsBySource(userId, sourceType, sourceId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/source/{sourceType}/{sourceId}")
     public ResponseEntity<List<PaymentResponse>> getPaymentsBySource(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String sourceType,
-            @PathVariable Long sourceId) {
-        Long userId = paymentService.getUserIdByEmail(userDetails.getUsername());
+            @PathVariable Long sourceId,
+            WebRequest webRequest) {
+        Long userId = principal.getId();
+        if (webRequest.checkNotModified(userDataVersionService.etag(userId))) {
+            return null;
+        }
         List<PaymentResponse> payments = paymentService.getPaymentsBySource(userId, sourceType, sourceId);
         return ResponseEntity.ok(payments);
     }
@@ -11,7 +11,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "checklists")
+@Table(
+        name = "checklists",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_checklists_contract_template_key",
+                columnNames = {"contract_id", "template_key"}
+        )
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,6 +53,14 @@ public class Checklist {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // 템플릿 항목을 저장한 행이면 템플릿 key, 사용자가 직접 추가한 항목이면 null
+    @Column(name = "template_key", length = 100)
+    private String templateKey;
+
+    // 사용자가 삭제한 템플릿 항목 (목록에서 제외)
+    @Column(name = "is_dismissed", columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean isDismissed = false;
+
     @Column(name = "file_path", length = 500)
     private String filePath;
 
@@ -50,6 +50,10 @@ public class Contract {
     @Column(name = "end_date")
     private LocalDate endDate;
 
+    // 기본 체크리스트 템플릿 버전 (null 이면 템플릿 도입 전 계약)
+    @Column(name = "checklist_template_version")
+    private Integer checklistTemplateVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,42 @@
+package com.starter.domain;
+
+import com.starter.enums.JobCheckpointStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 배치 작업 진행 위치 (중단 후 재시작 시 이어서 처리)
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // 작업 기준일 (납부 연체 작업은 예정일 기준, 기준이 바뀌면 처음부터 다시 실행)
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    // 마지막으로 처리한 키 (예: 사용자 id 범위의 끝)
+    @Column(name = "last_key", nullable = false)
+    private Long lastKey = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobCheckpointStatus status = JobCheckpointStatus.RUNNING;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.starter.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 작업의 서버 간 잠금 (JobLockService 가 관리)
+@Entity
+@Table(name = "job_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLock {
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // 이 시각까지 lockedBy 가 작업을 잡고 있음 (해제하면 해제 시각으로 당겨짐)
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // 획득 시각 (연장해도 바뀌지 않음)
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
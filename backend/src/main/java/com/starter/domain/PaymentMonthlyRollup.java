@@ -0,0 +1,52 @@
+package com.starter.domain;
+
+import com.starter.enums.PaymentCategory;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "payment_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_payment_monthly_rollup_user_month_category",
+                columnNames = {"user_id", "year_month", "category"}
+        )
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentMonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "`year_month`", nullable = false, length = 7)
+    private String yearMonth; // "YYYY-MM"
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private PaymentCategory category;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 0)
+    private BigDecimal totalAmount;
+
+    @Column(name = "paid_amount", nullable = false, precision = 15, scale = 0)
+    private BigDecimal paidAmount;
+
+    @Column(name = "upcoming_amount", nullable = false, precision = 15, scale = 0)
+    private BigDecimal upcomingAmount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
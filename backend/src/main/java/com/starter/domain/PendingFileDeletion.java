@@ -0,0 +1,33 @@
+package com.starter.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제 대기 중인 첨부 파일 (FileReclamationService 가 파일을 지운 뒤 행 삭제)
+@Entity
+@Table(name = "pending_file_deletions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingFileDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    // 지금까지 시도한 횟수 (최대 횟수에 도달한 행은 더 이상 시도하지 않고 남겨 둠)
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -42,12 +42,20 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 탈퇴 요청 시각 (값이 있으면 인증 차단, 백그라운드 작업이 데이터 삭제)
+    @Column(name = "deletion_requested_at")
+    private LocalDateTime deletionRequestedAt;
+
     public User update(String name, String email) {
         this.name = name;
         this.email = email;
         return this;
     }
 
+    public boolean isPendingDeletion() {
+        return this.deletionRequestedAt != null;
+    }
+
     public String getRoleKey() {
         return this.role.getKey();
     }
@@ -0,0 +1,37 @@
+package com.starter.dto.request;
+
+import com.starter.enums.PaymentStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentBulkStatusRequest {
+    // 음수 id 는 캘린더의 가상 정기 납부 항목 (-템플릿 id)
+    @NotEmpty(message = "Payment ids cannot be empty")
+    @Size(max = 500, message = "Cannot update more than 500 payments at once")
+    private List<@NotNull Long> ids;
+
+    @NotNull(message = "Payment status cannot be null")
+    private PaymentStatus status;
+
+    // PAID 인 경우 납부일 (없으면 오늘)
+    private LocalDate paidDate;
+
+    // 가상 항목을 실체화할 월 (음수 id 가 있으면 필수)
+    private Integer year;
+
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer month;
+}
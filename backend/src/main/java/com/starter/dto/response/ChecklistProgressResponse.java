@@ -0,0 +1,17 @@
+package com.starter.dto.response;
+
+import com.starter.enums.ContractPhase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChecklistProgressResponse {
+    private ContractPhase phase;
+    private Integer total;
+    private Integer completed;
+    private Integer requiredTotal;
+    private Integer requiredCompleted;
+}
@@ -0,0 +1,20 @@
+package com.starter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractWorkspaceResponse {
+    private ContractResponse contract;
+    private List<ChecklistResponse> checklists;
+    // 단계별 체크리스트 진행률 (ContractPhase 순서)
+    private List<ChecklistProgressResponse> checklistProgress;
+    private List<DocumentResponse> documents;
+    private List<SpecialTermResponse> specialTerms;
+    private List<MaintenanceResponse> maintenances;
+}
@@ -0,0 +1,18 @@
+package com.starter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentBulkStatusResponse {
+    private Integer updatedCount;
+    // 가상 항목에서 새로 생성된 납부 내역 (실제 id 확인용)
+    private List<PaymentResponse> materializedPayments;
+    // 존재하지 않거나 본인 소유가 아닌 id
+    private List<Long> skippedIds;
+}
@@ -0,0 +1,31 @@
+package com.starter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentImportResponse {
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer failedRows;
+    private List<RowError> errors = new ArrayList<>();
+    private Boolean errorsTruncated = false; // 오류가 많으면 앞부분만 반환
+    private Boolean truncated = false; // 최대 행 수에 도달해 나머지는 처리하지 않음
+    private Integer firstRejectedLine; // truncated 일 때 처리하지 않은 첫 줄 번호 (이 줄부터 다시 보내면 이어서 가져옴)
+    private Boolean aborted = false; // 배치 저장 중 DB 오류로 중단됨 (앞 배치는 커밋됨)
+    private Integer lastCommittedLine; // 마지막으로 커밋된 배치의 마지막 줄 번호 (aborted 면 다음 줄부터 다시 보내면 됨)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer line;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.starter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentPageResponse {
+    private List<PaymentResponse> payments;
+    private String nextCursor;
+    private Boolean hasNext;
+}
@@ -0,0 +1,5 @@
+package com.starter.enums;
+
+public enum JobCheckpointStatus {
+    RUNNING, COMPLETED
+}
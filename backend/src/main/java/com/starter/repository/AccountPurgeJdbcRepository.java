@@ -0,0 +1,69 @@
+package com.starter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 탈퇴 계정 데이터를 테이블별로 id 범위를 나눠 삭제 (엔티티를 읽지 않음)
+@Repository
+@RequiredArgsConstructor
+public class AccountPurgeJdbcRepository {
+
+    private static final String CONTRACT_OWNER = "contract_id IN (SELECT id FROM contracts WHERE user_id = ?)";
+    private static final String USER_OWNER = "user_id = ?";
+
+    // 외래키 순서대로 실행 (자식 테이블 먼저, contracts 마지막)
+    public enum PurgeStep {
+        CHECKLISTS("checklists", CONTRACT_OWNER, true),
+        SPECIAL_TERMS("special_terms", CONTRACT_OWNER, true),
+        MAINTENANCES("maintenances", CONTRACT_OWNER, true),
+        DEPOSIT_SOURCES("deposit_sources", CONTRACT_OWNER, false),
+        DOCUMENTS("documents", USER_OWNER, true),
+        MAINTENANCE_FILES("maintenance_files", "record_id IN (SELECT id FROM maintenance_records WHERE user_id = ?)", true),
+        MAINTENANCE_RECORDS("maintenance_records", USER_OWNER, false),
+        PAYMENT_MONTHLY_ROLLUP("payment_monthly_rollup", USER_OWNER, false),
+        PAYMENTS("payments", USER_OWNER, false),
+        UTILITIES("utilities", USER_OWNER, false),
+        LOANS("loans", USER_OWNER, false),
+        INQUIRIES("inquiries", USER_OWNER, false),
+        CONTRACTS("contracts", USER_OWNER, false);
+
+        private final String table;
+        private final String ownerClause;
+        private final boolean hasFiles;
+
+        PurgeStep(String table, String ownerClause, boolean hasFiles) {
+            this.table = table;
+            this.ownerClause = ownerClause;
+            this.hasFiles = hasFiles;
+        }
+    }
+
+    public record PurgeRow(long id, String filePath) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<PurgeRow> findChunk(PurgeStep step, Long userId, int limit) {
+        String sql = "SELECT id" + (step.hasFiles ? ", file_path" : "") + " FROM " + step.table +
+                " WHERE " + step.ownerClause + " ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new PurgeRow(rs.getLong("id"), step.hasFiles ? rs.getString("file_path") : null),
+                userId, limit);
+    }
+
+    public int deleteByIds(PurgeStep step, Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update("DELETE FROM " + step.table + " WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+
+    // 탈퇴 요청이 유지된 경우에만 사용자 행 삭제
+    public int deleteUser(Long userId) {
+        return jdbcTemplate.update("DELETE FROM users WHERE id = ? AND deletion_requested_at IS NOT NULL", userId);
+    }
+}
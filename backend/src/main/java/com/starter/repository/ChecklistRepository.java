@@ -2,15 +2,59 @@ package com.starter.repository;
 
 import com.starter.domain.Checklist;
 import com.starter.enums.ContractPhase;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChecklistRepository extends JpaRepository<Checklist, Long> {
     List<Checklist> findByContractId(Long contractId);
     List<Checklist> findByContractIdAndPhase(Long contractId, ContractPhase phase);
     List<Checklist> findByContractIdOrderByPhaseAscCreatedAtAsc(Long contractId);
-    void deleteByContractId(Long contractId);
+    Optional<Checklist> findByContractIdAndTemplateKey(Long contractId, String templateKey);
+
+    // 잠금 조회는 다른 트랜잭션이 방금 커밋한 행도 읽음 (REPEATABLE READ 스냅샷 무시)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Checklist c where c.contract.id = :contractId and c.templateKey = :templateKey")
+    Optional<Checklist> findByContractIdAndTemplateKeyForUpdate(@Param("contractId") Long contractId,
+                                                                @Param("templateKey") String templateKey);
+
+    // 템플릿 항목을 행으로 저장 (이미 있으면 그대로 둠)
+    // 같은 항목을 동시에 처음 수정해도 유니크 키(contract_id, template_key) 충돌 없이 한 행만 남음
+    @Modifying
+    @Query(value = "INSERT INTO checklists " +
+            "(contract_id, template_key, phase, category, title, description, " +
+            "is_required, is_completed, is_dismissed, created_at) " +
+            "VALUES (:contractId, :templateKey, :phase, :category, :title, :description, " +
+            ":required, FALSE, FALSE, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE template_key = template_key",
+            nativeQuery = true)
+    void insertTemplateItemIfAbsent(@Param("contractId") Long contractId,
+                                    @Param("templateKey") String templateKey,
+                                    @Param("phase") String phase,
+                                    @Param("category") String category,
+                                    @Param("title") String title,
+                                    @Param("description") String description,
+                                    @Param("required") boolean required);
+
+    // 소유자 조건을 포함해 계약과 함께 한 번에 조회
+    @Query("select c from Checklist c join fetch c.contract ct where c.id = :id and ct.user.id = :userId")
+    Optional<Checklist> findByIdAndOwnerId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 삭제 전에 정리할 첨부 파일 경로만 조회
+    @Query("select c.filePath from Checklist c where c.contract.id = :contractId " +
+            "and c.filePath is not null and c.filePath <> ''")
+    List<String> findFilePathsByContractId(@Param("contractId") Long contractId);
+
+    // 엔티티를 읽지 않고 한 번의 DELETE 로 삭제
+    @Modifying
+    @Query("delete from Checklist c where c.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
 }
@@ -2,11 +2,19 @@ package com.starter.repository;
 
 import com.starter.domain.Contract;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Long> {
     List<Contract> findByUserId(Long userId);
+    Optional<Contract> findByIdAndUserId(Long id, Long userId);
+
+    // 소유자 id 만 조회 (users 조인 없이 외래키 컬럼 사용)
+    @Query("select c.user.id from Contract c where c.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
 }
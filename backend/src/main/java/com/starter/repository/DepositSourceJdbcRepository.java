@@ -0,0 +1,48 @@
+package com.starter.repository;
+
+import com.starter.domain.DepositSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+// 계약 생성 시 보증금 출처를 한 번의 JDBC 배치로 삽입 (IDENTITY 키라 Hibernate 배치 불가)
+@Repository
+@RequiredArgsConstructor
+public class DepositSourceJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO deposit_sources (contract_id, type, amount, bank_name, interest_rate) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출자 트랜잭션 안에서 삽입하고 생성된 id 를 엔티티에 채움 (응답에 id 가 필요)
+    public void batchInsert(List<DepositSource> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                (PreparedStatement ps) -> {
+                    for (DepositSource source : sources) {
+                        ps.setLong(1, source.getContract().getId());
+                        ps.setString(2, source.getType().name());
+                        ps.setBigDecimal(3, source.getAmount());
+                        ps.setString(4, source.getBankName());
+                        ps.setBigDecimal(5, source.getInterestRate());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        for (int i = 0; i < sources.size() && keys.next(); i++) {
+                            sources.get(i).setId(keys.getLong(1));
+                        }
+                    }
+                    return null;
+                });
+    }
+}
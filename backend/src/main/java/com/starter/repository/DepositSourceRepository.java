@@ -2,12 +2,20 @@ package com.starter.repository;
 
 import com.starter.domain.DepositSource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DepositSourceRepository extends JpaRepository<DepositSource, Long> {
     List<DepositSource> findByContractId(Long contractId);
-    void deleteByContractId(Long contractId);
+    List<DepositSource> findByContractIdIn(Collection<Long> contractIds);
+
+    @Modifying
+    @Query("delete from DepositSource s where s.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
 }
@@ -3,13 +3,25 @@ package com.starter.repository;
 import com.starter.domain.Document;
 import com.starter.enums.ContractPhase;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
+    Optional<Document> findByIdAndUserId(Long id, Long userId);
     List<Document> findByContractId(Long contractId);
     List<Document> findByContractIdAndPhase(Long contractId, ContractPhase phase);
-    void deleteByContractId(Long contractId);
+
+    @Query("select d.filePath from Document d where d.contract.id = :contractId " +
+            "and d.filePath is not null and d.filePath <> ''")
+    List<String> findFilePathsByContractId(@Param("contractId") Long contractId);
+
+    @Modifying
+    @Query("delete from Document d where d.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
 }
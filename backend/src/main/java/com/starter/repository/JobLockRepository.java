@@ -0,0 +1,20 @@
+package com.starter.repository;
+
+import com.starter.domain.JobLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // 잠금 획득/연장 판단 중 다른 서버가 같은 행을 바꾸지 못하도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from JobLock l where l.jobName = :jobName")
+    Optional<JobLock> findByJobNameForUpdate(@Param("jobName") String jobName);
+}
@@ -6,9 +6,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
+    Optional<Loan> findByIdAndUserId(Long id, Long userId);
     List<Loan> findByUserId(Long userId);
 
     List<Loan> findByUserIdAndType(Long userId, LoanType type);
@@ -3,13 +3,28 @@ package com.starter.repository;
 import com.starter.domain.Maintenance;
 import com.starter.enums.MaintenanceStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MaintenanceRepository extends JpaRepository<Maintenance, Long> {
     List<Maintenance> findByContractIdOrderByCreatedAtDesc(Long contractId);
     List<Maintenance> findByContractIdAndStatusOrderByCreatedAtDesc(Long contractId, MaintenanceStatus status);
-    void deleteByContractId(Long contractId);
+    // 소유자 조건을 포함해 계약과 함께 한 번에 조회
+    @Query("select m from Maintenance m join fetch m.contract ct where m.id = :id and ct.user.id = :userId")
+    Optional<Maintenance> findByIdAndOwnerId(@Param("id") Long id, @Param("userId") Long userId);
+
+
+    @Query("select m.filePath from Maintenance m where m.contract.id = :contractId " +
+            "and m.filePath is not null and m.filePath <> ''")
+    List<String> findFilePathsByContractId(@Param("contractId") Long contractId);
+
+    @Modifying
+    @Query("delete from Maintenance m where m.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
 }
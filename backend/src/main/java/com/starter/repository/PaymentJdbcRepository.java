@@ -0,0 +1,43 @@
+package com.starter.repository;
+
+import com.starter.domain.Payment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// IDENTITY 키 전략은 Hibernate 배치 삽입을 막으므로 대량 삽입은 JDBC 배치로 처리
+@Repository
+@RequiredArgsConstructor
+public class PaymentJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO payments (user_id, name, category, amount, payment_day, " +
+            "is_recurring, auto_pay, due_date, paid_date, status, source_type, source_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출자 트랜잭션 안에서 한 번의 배치로 삽입 (생성 id 는 채우지 않음)
+    public void batchInsert(List<Payment> payments) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, payments, payments.size(), (ps, payment) -> {
+            ps.setLong(1, payment.getUser().getId());
+            ps.setString(2, payment.getName());
+            ps.setString(3, payment.getCategory().name());
+            ps.setBigDecimal(4, payment.getAmount());
+            ps.setObject(5, payment.getPaymentDay());
+            ps.setBoolean(6, Boolean.TRUE.equals(payment.getIsRecurring()));
+            ps.setBoolean(7, Boolean.TRUE.equals(payment.getAutoPay()));
+            ps.setDate(8, payment.getDueDate() != null ? Date.valueOf(payment.getDueDate()) : null);
+            ps.setDate(9, payment.getPaidDate() != null ? Date.valueOf(payment.getPaidDate()) : null);
+            ps.setString(10, payment.getStatus().name());
+            ps.setString(11, payment.getSourceType());
+            ps.setObject(12, payment.getSourceId());
+            ps.setTimestamp(13, now);
+        });
+    }
+}
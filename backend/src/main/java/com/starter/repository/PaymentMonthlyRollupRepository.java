@@ -0,0 +1,44 @@
+package com.starter.repository;
+
+import com.starter.domain.PaymentMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface PaymentMonthlyRollupRepository extends JpaRepository<PaymentMonthlyRollup, Long> {
+
+    // "YYYY-MM" 문자열은 사전순 비교가 곧 월 순서
+    List<PaymentMonthlyRollup> findByUserIdAndYearMonthBetween(Long userId, String fromYearMonth, String toYearMonth);
+
+    // 동시 갱신 시 lost update 가 없도록 DB 에서 원자적으로 누적
+    @Modifying
+    @Query(value = "INSERT INTO payment_monthly_rollup " +
+            "(user_id, `year_month`, category, total_amount, paid_amount, upcoming_amount, updated_at) " +
+            "VALUES (:userId, :yearMonth, :category, :total, :paid, :upcoming, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "paid_amount = paid_amount + VALUES(paid_amount), " +
+            "upcoming_amount = upcoming_amount + VALUES(upcoming_amount), " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void upsertDelta(@Param("userId") Long userId,
+                     @Param("yearMonth") String yearMonth,
+                     @Param("category") String category,
+                     @Param("total") BigDecimal total,
+                     @Param("paid") BigDecimal paid,
+                     @Param("upcoming") BigDecimal upcoming);
+
+    // 재생성 중 같은 사용자의 upsertDelta 가 끼어들지 않도록 사용자 롤업 행(과 그 사이 키 범위)을 잠금
+    @Query(value = "SELECT id FROM payment_monthly_rollup WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    List<Long> lockByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from PaymentMonthlyRollup r where r.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,15 +1,32 @@
 package com.starter.repository;
 
 import com.starter.domain.Payment;
+import com.starter.enums.PaymentCategory;
 import com.starter.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    Optional<Payment> findByIdAndUserId(Long id, Long userId);
+
+    // 롤업 차감 -> 변경 -> 가산 사이에 다른 트랜잭션이 같은 행을 바꾸지 못하도록 행 잠금
+    // 잠금 조회는 다른 트랜잭션이 방금 커밋한 값을 읽으므로 차감액이 롤업에 더해진 값과 일치
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Payment p where p.id = :id and p.user.id = :userId")
+    Optional<Payment> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
 
     List<Payment> findByUserIdAndIsRecurringAndDueDateBetween(Long userId, boolean isRecurring, LocalDate startDate, LocalDate endDate);
 
@@ -24,11 +41,112 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // 특정 유저의 상태별 결제 내역 조회
     List<Payment> findByUserIdAndStatus(Long userId, PaymentStatus status);
 
+    // 키셋 페이지네이션 1단계: 예정일 없는 항목(정기 납부 템플릿)을 id 순으로
+    @Query("select p from Payment p where p.user.id = :userId and p.dueDate is null and p.id > :afterId " +
+            "and (:status is null or p.status = :status) order by p.id")
+    List<Payment> findUndatedPageByUserId(@Param("userId") Long userId,
+                                          @Param("status") PaymentStatus status,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    // 키셋 페이지네이션 2단계: (due_date, id) 순, afterDueDate 가 null 이면 처음부터
+    @Query("select p from Payment p where p.user.id = :userId and p.dueDate is not null " +
+            "and (cast(:afterDueDate as LocalDate) is null or p.dueDate > :afterDueDate " +
+            "or (p.dueDate = :afterDueDate and p.id > :afterId)) " +
+            "and (:status is null or p.status = :status) order by p.dueDate, p.id")
+    List<Payment> findDatedPageByUserId(@Param("userId") Long userId,
+                                        @Param("status") PaymentStatus status,
+                                        @Param("afterDueDate") LocalDate afterDueDate,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    List<Payment> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    // 일괄 상태 변경용 행 잠금 (id 순으로 잠가 동시 요청 간 교착을 피함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Payment p where p.user.id = :userId and p.id in :ids order by p.id")
+    List<Payment> findByUserIdAndIdInForUpdate(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 소유자 범위로 한 번에 상태 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Payment p set p.status = :status, p.paidDate = :paidDate " +
+            "where p.user.id = :userId and p.id in :ids")
+    int updateStatusByUserIdAndIdIn(@Param("userId") Long userId,
+                                    @Param("ids") Collection<Long> ids,
+                                    @Param("status") PaymentStatus status,
+                                    @Param("paidDate") LocalDate paidDate);
+
+    // 일괄 OVERDUE 지정: 예정일이 지나지 않은 항목은 UPCOMING 으로 저장
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Payment p set p.paidDate = null, p.status = case when p.dueDate < :today " +
+            "then com.starter.enums.PaymentStatus.OVERDUE else com.starter.enums.PaymentStatus.UPCOMING end " +
+            "where p.user.id = :userId and p.id in :ids")
+    int markOverdueByUserIdAndIdIn(@Param("userId") Long userId,
+                                   @Param("ids") Collection<Long> ids,
+                                   @Param("today") LocalDate today);
+
+    // 예정일이 지난 UPCOMING 을 OVERDUE 로 전환 (사용자 id 범위 단위)
+    @Modifying
+    @Query("update Payment p set p.status = com.starter.enums.PaymentStatus.OVERDUE " +
+            "where p.user.id between :fromUserId and :toUserId " +
+            "and p.status = com.starter.enums.PaymentStatus.UPCOMING and p.dueDate < :today")
+    int markOverdueByUserIdBetween(@Param("fromUserId") Long fromUserId,
+                                   @Param("toUserId") Long toUserId,
+                                   @Param("today") LocalDate today);
+
+    @Query("select max(p.user.id) from Payment p")
+    Long findMaxUserId();
+
     void deleteByUserId(Long userId);
 
     // 원본 데이터로 결제 내역 조회
     List<Payment> findByUserIdAndSourceTypeAndSourceId(Long userId, String sourceType, Long sourceId);
 
-    // 원본 데이터로 결제 내역 삭제
-    void deleteByUserIdAndSourceTypeAndSourceId(Long userId, String sourceType, Long sourceId);
+    // 원본 데이터 수정/삭제 시 롤업 반영 전에 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Payment p where p.user.id = :userId and p.sourceType = :sourceType " +
+            "and p.sourceId = :sourceId order by p.id")
+    List<Payment> findByUserIdAndSourceTypeAndSourceIdForUpdate(@Param("userId") Long userId,
+                                                                @Param("sourceType") String sourceType,
+                                                                @Param("sourceId") Long sourceId);
+
+    // 원본 데이터로 결제 내역 삭제 (한 번의 DELETE)
+    @Modifying
+    @Query("delete from Payment p where p.user.id = :userId " +
+            "and p.sourceType = :sourceType and p.sourceId = :sourceId")
+    int deleteByUserIdAndSourceTypeAndSourceId(@Param("userId") Long userId,
+                                               @Param("sourceType") String sourceType,
+                                               @Param("sourceId") Long sourceId);
+
+    // 월별 롤업 재계산용 집계 (납부 예정일 기준)
+    @Query("select p.category as category, year(p.dueDate) as year, month(p.dueDate) as month, " +
+            "sum(p.amount) as totalAmount, " +
+            "sum(case when p.status = com.starter.enums.PaymentStatus.PAID then p.amount else 0 end) as paidAmount " +
+            "from Payment p where p.user.id = :userId and p.dueDate is not null " +
+            "group by p.category, year(p.dueDate), month(p.dueDate)")
+    List<MonthlyCategoryTotal> sumMonthlyTotalsByUserId(@Param("userId") Long userId);
+
+    // 정기 납부 중복 판단용 (이름, 카테고리, 예정일)만 조회
+    @Query("select distinct p.name as name, p.category as category, p.dueDate as dueDate " +
+            "from Payment p where p.user.id = :userId and p.dueDate between :start and :end")
+    List<PaymentKeyView> findKeysByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                          @Param("start") LocalDate start,
+                                                          @Param("end") LocalDate end);
+
+    @Query("select distinct p.user.id from Payment p")
+    List<Long> findDistinctUserIds();
+
+    interface MonthlyCategoryTotal {
+        PaymentCategory getCategory();
+        Integer getYear();
+        Integer getMonth();
+        BigDecimal getTotalAmount();
+        BigDecimal getPaidAmount();
+    }
+
+    interface PaymentKeyView {
+        String getName();
+        PaymentCategory getCategory();
+        LocalDate getDueDate();
+    }
 }
@@ -0,0 +1,33 @@
+package com.starter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 첨부 파일 삭제 대기열을 한 번의 JDBC 배치로 삽입 (계정 삭제 청크는 한 번에 수백 건, IDENTITY 키라 Hibernate 배치 불가)
+@Repository
+@RequiredArgsConstructor
+public class PendingFileDeletionJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO pending_file_deletions (file_path, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출자 트랜잭션 안에서 삽입 (레코드 삭제가 롤백되면 함께 롤백)
+    public void batchInsert(List<String> filePaths, LocalDateTime now) {
+        if (filePaths.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, filePaths, filePaths.size(), (ps, filePath) -> {
+            ps.setString(1, filePath);
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.starter.repository;
+
+import com.starter.domain.PendingFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    @Query("select p from PendingFileDeletion p where p.nextAttemptAt <= :now and p.attempts < :maxAttempts " +
+            "order by p.nextAttemptAt, p.id")
+    List<PendingFileDeletion> findDue(@Param("now") LocalDateTime now,
+                                      @Param("maxAttempts") int maxAttempts,
+                                      Pageable pageable);
+
+    // 읽은 시도 횟수가 그대로일 때만 선점 (다른 노드가 먼저 선점했으면 0)
+    // 다음 시도 시각을 미뤄 두므로 처리 중 서버가 죽어도 그 시각 이후 다시 시도됨
+    @Modifying
+    @Query("update PendingFileDeletion p set p.attempts = p.attempts + 1, p.nextAttemptAt = :nextAttemptAt " +
+            "where p.id = :id and p.attempts = :attempts")
+    int claim(@Param("id") Long id, @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("delete from PendingFileDeletion p where p.id = :id")
+    int deleteCompleted(@Param("id") Long id);
+}
@@ -3,13 +3,28 @@ package com.starter.repository;
 import com.starter.domain.SpecialTerm;
 import com.starter.enums.ContractPhase;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpecialTermRepository extends JpaRepository<SpecialTerm, Long> {
     List<SpecialTerm> findByContractId(Long contractId);
     List<SpecialTerm> findByContractIdAndPhase(Long contractId, ContractPhase phase);
-    void deleteByContractId(Long contractId);
+    // 소유자 조건을 포함해 계약과 함께 한 번에 조회
+    @Query("select t from SpecialTerm t join fetch t.contract ct where t.id = :id and ct.user.id = :userId")
+    Optional<SpecialTerm> findByIdAndOwnerId(@Param("id") Long id, @Param("userId") Long userId);
+
+
+    @Query("select t.filePath from SpecialTerm t where t.contract.id = :contractId " +
+            "and t.filePath is not null and t.filePath <> ''")
+    List<String> findFilePathsByContractId(@Param("contractId") Long contractId);
+
+    @Modifying
+    @Query("delete from SpecialTerm t where t.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
 }
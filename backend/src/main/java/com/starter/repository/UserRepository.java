@@ -1,9 +1,14 @@
 package com.starter.repository;
 
 import com.starter.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
     boolean existsByEmail(String email);
+
+    // 탈퇴 요청 순서대로 삭제 대상 사용자 id 조회
+    @Query("select u.id from User u where u.deletionRequestedAt is not null order by u.deletionRequestedAt, u.id")
+    List<Long> findIdsPendingDeletion(Pageable pageable);
+
+    // 읽은 뒤 비밀번호가 바뀌지 않았을 때만 새 해시로 교체 (로그인 시 재해싱용)
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -10,6 +10,7 @@ import java.util.Optional;
 
 @Repository
 public interface UtilityRepository extends JpaRepository<Utility, Long> {
+    Optional<Utility> findByIdAndUserId(Long id, Long userId);
     List<Utility> findByUserId(Long userId);
 
     List<Utility> findByUserIdAndYearMonth(Long userId, String yearMonth);
@@ -0,0 +1,186 @@
+package com.starter.scheduler;
+
+import com.starter.domain.JobCheckpoint;
+import com.starter.domain.User;
+import com.starter.enums.JobCheckpointStatus;
+import com.starter.repository.AccountPurgeJdbcRepository;
+import com.starter.repository.AccountPurgeJdbcRepository.PurgeRow;
+import com.starter.repository.AccountPurgeJdbcRepository.PurgeStep;
+import com.starter.repository.JobCheckpointRepository;
+import com.starter.repository.UserRepository;
+import com.starter.security.UserPrincipalCache;
+import com.starter.service.ContractOwnershipService;
+import com.starter.service.FileReclamationService;
+import com.starter.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+// 탈퇴 요청된 계정의 데이터를 테이블별로 작은 청크로 나눠 삭제하는 작업
+// 청크마다 짧은 트랜잭션으로 삭제하고 진행 단계는 사용자별 체크포인트에 기록해 재시작 후 이어서 실행
+// 첨부 파일 경로는 같은 청크 트랜잭션에서 삭제 대기열에 기록하고 커밋 이후 FileReclamationService 가 정리
+// 여러 서버 중 job_locks 를 잡은 한 곳에서만 실행하고, 사용자마다 임대를 연장하며 잃으면 중단
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "account.purge-job.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountPurgeJob {
+
+    static final String JOB_NAME = "account-purge";
+    static final String JOB_NAME_PREFIX = JOB_NAME + ":";
+
+    private final UserRepository userRepository;
+    private final AccountPurgeJdbcRepository accountPurgeJdbcRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final FileReclamationService fileReclamationService;
+    private final ContractOwnershipService contractOwnershipService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final Clock clock;
+    private final Counter deletedRowCounter;
+    private final Counter purgedUserCounter;
+
+    @Value("${account.purge-job.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${account.purge-job.users-per-run:20}")
+    private int usersPerRun;
+
+    // 청크 사이 대기 (다른 요청에 커넥션과 잠금을 양보)
+    @Value("${account.purge-job.chunk-pause:100ms}")
+    private Duration chunkPause;
+
+    @Value("${account.purge-job.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    @Value("${account.purge-job.lock-min-hold:PT1M}")
+    private Duration lockMinHold;
+
+    public AccountPurgeJob(UserRepository userRepository,
+                           AccountPurgeJdbcRepository accountPurgeJdbcRepository,
+                           JobCheckpointRepository jobCheckpointRepository,
+                           FileReclamationService fileReclamationService,
+                           ContractOwnershipService contractOwnershipService,
+                           UserPrincipalCache userPrincipalCache,
+                           TransactionTemplate transactionTemplate,
+                           JobLockService jobLockService,
+                           Clock clock,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.accountPurgeJdbcRepository = accountPurgeJdbcRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.fileReclamationService = fileReclamationService;
+        this.contractOwnershipService = contractOwnershipService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLockService = jobLockService;
+        this.clock = clock;
+        this.deletedRowCounter = Counter.builder("account.purge.job.deleted")
+                .description("Rows deleted for accounts pending deletion")
+                .register(meterRegistry);
+        this.purgedUserCounter = Counter.builder("account.purge.job.users")
+                .description("Accounts fully purged")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${account.purge-job.cron:0 */5 * * * *}", zone = "${app.time-zone:Asia/Seoul}")
+    public void run() {
+        if (!jobLockService.tryLock(JOB_NAME, lockLease)) {
+            log.debug("Account purge skipped - running on another instance");
+            return;
+        }
+        try {
+            List<Long> userIds = userRepository.findIdsPendingDeletion(PageRequest.of(0, usersPerRun));
+            for (Long userId : userIds) {
+                if (!jobLockService.extend(JOB_NAME, lockLease)) {
+                    log.warn("Account purge lost its lock before userId={}, stopping", userId);
+                    return;
+                }
+                try {
+                    purge(userId);
+                } catch (RuntimeException e) {
+                    // 다음 실행에서 체크포인트부터 재시도
+                    log.error("Account purge failed userId={}", userId, e);
+                }
+            }
+        } finally {
+            jobLockService.unlock(JOB_NAME, lockMinHold);
+        }
+    }
+
+    void purge(Long userId) {
+        String jobName = JOB_NAME_PREFIX + userId;
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(jobName).orElseGet(() -> {
+            JobCheckpoint created = new JobCheckpoint();
+            created.setJobName(jobName);
+            created.setRunDate(LocalDate.now(clock));
+            created.setStatus(JobCheckpointStatus.RUNNING);
+            return created;
+        });
+
+        PurgeStep[] steps = PurgeStep.values();
+        for (int index = checkpoint.getLastKey().intValue(); index < steps.length; index++) {
+            PurgeStep step = steps[index];
+            int deleted;
+            do {
+                deleted = Objects.requireNonNull(transactionTemplate.execute(status -> deleteChunk(step, userId, checkpoint)));
+                deletedRowCounter.increment(deleted);
+                pause();
+            } while (deleted >= chunkSize);
+
+            long nextStep = index + 1;
+            transactionTemplate.executeWithoutResult(status -> {
+                checkpoint.setLastKey(nextStep);
+                jobCheckpointRepository.save(checkpoint);
+            });
+        }
+
+        String email = userRepository.findById(userId).map(User::getEmail).orElse(null);
+        transactionTemplate.executeWithoutResult(status -> {
+            userPrincipalCache.invalidate(email);
+            accountPurgeJdbcRepository.deleteUser(userId);
+            jobCheckpointRepository.deleteById(jobName);
+        });
+        purgedUserCounter.increment();
+        log.info("Account purged userId={} rows={}", userId, checkpoint.getProcessedCount());
+    }
+
+    private int deleteChunk(PurgeStep step, Long userId, JobCheckpoint checkpoint) {
+        List<PurgeRow> rows = accountPurgeJdbcRepository.findChunk(step, userId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rows.stream().map(PurgeRow::id).toList();
+        int deleted = accountPurgeJdbcRepository.deleteByIds(step, ids);
+        if (step == PurgeStep.CONTRACTS) {
+            contractOwnershipService.evictAll(ids);
+        }
+        fileReclamationService.reclaimAfterCommit(rows.stream().map(PurgeRow::filePath).filter(Objects::nonNull).toList());
+        checkpoint.setProcessedCount(checkpoint.getProcessedCount() + deleted);
+        jobCheckpointRepository.save(checkpoint);
+        return rows.size();
+    }
+
+    private void pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.starter.scheduler;
+
+import com.starter.domain.JobCheckpoint;
+import com.starter.enums.JobCheckpointStatus;
+import com.starter.repository.JobCheckpointRepository;
+import com.starter.repository.PaymentRepository;
+import com.starter.service.JobLockService;
+import com.starter.service.UserDataVersionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+// 예정일이 지난 UPCOMING 납부 내역을 OVERDUE 로 저장하는 작업
+// 사용자 id 범위 단위로 나눠 UPDATE 하고, 범위마다 체크포인트를 같은 트랜잭션에 기록해 중단 지점부터 이어서 실행
+// 체크포인트의 run_date 는 이 패스의 예정일 기준(due_date < run_date)이고, 같은 기준으로 중단된 패스만 last_key 부터 이어서 실행
+// 매시간 실행되며 직전 패스가 끝났으면 새 패스를 시작 (당일 실행 이후 추가되거나 되돌려진 항목도 다음 실행에서 전환)
+// 여러 서버 중 job_locks 를 잡은 한 곳에서만 실행하고, 범위마다 임대를 연장하며 잃으면 체크포인트를 남긴 채 중단
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "payment.overdue-job.enabled", havingValue = "true", matchIfMissing = true)
+public class OverduePaymentJob {
+
+    static final String JOB_NAME = "payment-overdue";
+
+    private final PaymentRepository paymentRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDataVersionService userDataVersionService;
+    private final JobLockService jobLockService;
+    private final Clock clock;
+    private final Counter updatedCounter;
+    private final Counter chunkCounter;
+    private final Timer runTimer;
+
+    @Value("${payment.overdue-job.chunk-size:500}")
+    private long chunkSize;
+
+    @Value("${payment.overdue-job.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    @Value("${payment.overdue-job.lock-min-hold:PT1M}")
+    private Duration lockMinHold;
+
+    public OverduePaymentJob(PaymentRepository paymentRepository,
+                             JobCheckpointRepository jobCheckpointRepository,
+                             TransactionTemplate transactionTemplate,
+                             UserDataVersionService userDataVersionService,
+                             JobLockService jobLockService,
+                             Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.userDataVersionService = userDataVersionService;
+        this.jobLockService = jobLockService;
+        this.clock = clock;
+        this.updatedCounter = Counter.builder("payment.overdue.job.updated")
+                .description("Payments switched from UPCOMING to OVERDUE")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("payment.overdue.job.chunks")
+                .description("User id ranges processed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("payment.overdue.job.duration")
+                .description("Duration of a full overdue job run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${payment.overdue-job.cron:0 5 * * * *}", zone = "${app.time-zone:Asia/Seoul}")
+    public void run() {
+        if (!jobLockService.tryLock(JOB_NAME, lockLease)) {
+            log.debug("Overdue job skipped - running on another instance");
+            return;
+        }
+        try {
+            runTimer.record(() -> execute(LocalDate.now(clock)));
+        } finally {
+            jobLockService.unlock(JOB_NAME, lockMinHold);
+        }
+    }
+
+    void execute(LocalDate today) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME).orElseGet(() -> {
+            JobCheckpoint created = new JobCheckpoint();
+            created.setJobName(JOB_NAME);
+            return created;
+        });
+        boolean resume = today.equals(checkpoint.getRunDate()) && checkpoint.getStatus() == JobCheckpointStatus.RUNNING;
+        if (resume) {
+            log.info("Resuming overdue job from userId={} processed={}", checkpoint.getLastKey(), checkpoint.getProcessedCount());
+        } else {
+            checkpoint.setRunDate(today);
+            checkpoint.setLastKey(0L);
+            checkpoint.setProcessedCount(0L);
+            checkpoint.setStatus(JobCheckpointStatus.RUNNING);
+        }
+
+        Long maxUserId = paymentRepository.findMaxUserId();
+        long lastUserId = checkpoint.getLastKey();
+        long startedAt = System.nanoTime();
+        long updatedThisRun = 0;
+
+        while (maxUserId != null && lastUserId < maxUserId) {
+            if (!jobLockService.extend(JOB_NAME, lockLease)) {
+                log.warn("Overdue job lost its lock at userId={}, stopping", lastUserId);
+                return;
+            }
+            long fromUserId = lastUserId + 1;
+            long toUserId = Math.min(lastUserId + chunkSize, maxUserId);
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = paymentRepository.markOverdueByUserIdBetween(fromUserId, toUserId, today);
+                checkpoint.setLastKey(toUserId);
+                checkpoint.setProcessedCount(checkpoint.getProcessedCount() + rows);
+                jobCheckpointRepository.save(checkpoint);
+                return rows;
+            });
+            lastUserId = toUserId;
+            updatedThisRun += updated != null ? updated : 0;
+            updatedCounter.increment(updated != null ? updated : 0);
+            chunkCounter.increment();
+        }
+
+        checkpoint.setStatus(JobCheckpointStatus.COMPLETED);
+        jobCheckpointRepository.save(checkpoint);
+        // 여러 사용자의 상태가 바뀌었으므로 캐시된 ETag 전체 무효화
+        if (updatedThisRun > 0) {
+            userDataVersionService.bumpAll();
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("Overdue job completed date={} updated={} total={} elapsed={}s ({} rows/s)",
+                today, updatedThisRun, checkpoint.getProcessedCount(), String.format("%.2f", seconds),
+                seconds > 0 ? Math.round(updatedThisRun / seconds) : updatedThisRun);
+    }
+}
@@ -1,6 +1,7 @@
 package com.starter.security;
 
 import com.starter.config.AppProperties;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,12 +12,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,6 +28,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationStore tokenRevocationStore;
     private final AppProperties appProperties;
 
     @Override
@@ -40,32 +45,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String token = resolveToken(request);
+        Claims claims = resolveClaims(request);
         String contentType = request.getContentType();
         log.debug("[JWT Filter] {} {} | Content-Type: {} | Token present: {} | Authorization header: {}",
-                request.getMethod(), request.getRequestURI(), contentType, token != null,
+                request.getMethod(), request.getRequestURI(), contentType, claims != null,
                 request.getHeader("Authorization") != null ? "exists" : "MISSING");
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        // 폐기 여부는 메모리 조회만으로 확인
+        if (claims != null && !tokenRevocationStore.isRevoked(claims)) {
+            UserDetails userDetails = jwtTokenProvider.toPrincipal(claims)
+                    .map(UserDetails.class::cast)
+                    .orElseGet(() -> loadUser(claims.getSubject()));
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // 삭제되었거나 탈퇴 처리 중인 계정의 토큰은 인증하지 않음
+            if (userDetails != null && userDetails.isEnabled()) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    private UserDetails loadUser(String email) {
+        try {
+            return userPrincipalCache.get(email, () -> (UserPrincipal) userDetailsService.loadUserByUsername(email));
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    // Authorization 헤더, 접근 토큰 쿠키 순으로 검증된 claims 를 찾음 (토큰당 한 번만 파싱)
+    private Claims resolveClaims(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
-            String token = bearer.substring(7);
-            if (jwtTokenProvider.validateToken(token)) {
-                return token;
+            Optional<Claims> claims = jwtTokenProvider.parse(bearer.substring(7));
+            if (claims.isPresent()) {
+                return claims.get();
             }
         }
 
@@ -73,9 +92,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if (appProperties.getAuth().getAccessCookieName().equals(cookie.getName()) && StringUtils.hasText(cookie.getValue())) {
-                    String token = cookie.getValue();
-                    if (jwtTokenProvider.validateToken(token)) {
-                        return token;
+                    Optional<Claims> claims = jwtTokenProvider.parse(cookie.getValue());
+                    if (claims.isPresent()) {
+                        return claims.get();
                     }
                 }
             }
@@ -4,53 +4,98 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_PROVIDER = "provider";
+
+    private record VerifiedToken(String token, Claims claims, long expiresAt) {
+    }
+
     private final SecretKey key;
+    // 파서는 불변이라 스레드 간 공유
+    private final JwtParser parser;
+    private final Map<String, VerifiedToken> verifiedTokens;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final boolean selfContainedClaims;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize,
+            @Value("${jwt.self-contained-claims:false}") boolean selfContainedClaims) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        });
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.selfContainedClaims = selfContainedClaims;
     }
 
     public String generateAccessToken(Authentication authentication) {
         Object principal = authentication.getPrincipal();
         if (principal instanceof UserPrincipal userPrincipal) {
-            return generateToken(userPrincipal.getEmail(), userPrincipal.getDisplayName(), accessTokenExpiration);
+            return generateAccessToken(userPrincipal);
         }
         UserDetails userDetails = (UserDetails) principal;
-        return generateToken(userDetails.getUsername(), null, accessTokenExpiration);
+        return generateToken(userDetails.getUsername(), Map.of(), accessTokenExpiration);
     }
 
-    public String generateAccessToken(String email) {
-        return generateToken(email, null, accessTokenExpiration);
+    // self-contained-claims 가 켜져 있으면 사용자 id, 권한, 가입 경로를 함께 담아 필터가 DB 를 조회하지 않게 함
+    public String generateAccessToken(UserPrincipal principal) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        if (principal.getDisplayName() != null) {
+            claims.put(CLAIM_NAME, principal.getDisplayName());
+        }
+        if (selfContainedClaims && principal.getId() != null) {
+            claims.put(CLAIM_USER_ID, principal.getId());
+            claims.put(CLAIM_ROLE, principal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .findFirst()
+                    .orElse("ROLE_USER"));
+            if (principal.getProvider() != null) {
+                claims.put(CLAIM_PROVIDER, principal.getProvider());
+            }
+        }
+        return generateToken(principal.getEmail(), claims, accessTokenExpiration);
     }
 
-    public String generateAccessToken(String email, String name) {
-        return generateToken(email, name, accessTokenExpiration);
+    public String generateAccessToken(String email) {
+        return generateToken(email, Map.of(), accessTokenExpiration);
     }
 
     public String generateRefreshToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername(), null, refreshTokenExpiration);
+        return generateToken(userDetails.getUsername(), Map.of(), refreshTokenExpiration);
     }
 
     public String generateRefreshToken(String email) {
-        return generateToken(email, null, refreshTokenExpiration);
+        return generateToken(email, Map.of(), refreshTokenExpiration);
     }
 
     public long getRefreshTokenExpiration() {
@@ -61,33 +106,68 @@ public class JwtTokenProvider {
         return accessTokenExpiration;
     }
 
-    private String generateToken(String subject, String name, long expiration) {
+    public boolean isSelfContainedClaims() {
+        return selfContainedClaims;
+    }
+
+    private String generateToken(String subject, Map<String, Object> claims, long expiration) {
         Date now = new Date();
-        var builder = Jwts.builder()
+        // jti: 로그아웃 등에서 토큰 단위로 폐기하기 위한 식별자 (TokenRevocationStore)
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
+                .claims(claims)
                 .issuedAt(now)
-                .expiration(new Date(now.getTime() + expiration));
-        if (name != null) {
-            builder.claim("name", name);
-        }
-        return builder.signWith(key).compact();
+                .expiration(new Date(now.getTime() + expiration))
+                .signWith(key)
+                .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    // 검증된 claims 만으로 만든 principal (사용자 id 가 없는 이전 형식 토큰이나 기능이 꺼져 있으면 empty)
+    // 권한 변경과 탈퇴 요청은 토큰이 만료되어 refresh 할 때 반영됨
+    public Optional<UserPrincipal> toPrincipal(Claims claims) {
+        if (!selfContainedClaims) {
+            return Optional.empty();
+        }
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null || claims.getSubject() == null) {
+            return Optional.empty();
+        }
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+        return Optional.of(new UserPrincipal(
+                userId,
+                claims.getSubject(),
+                claims.get(CLAIM_NAME, String.class),
+                claims.get(CLAIM_PROVIDER, String.class),
+                authorities));
     }
 
-    public boolean validateToken(String token) {
+    // 서명과 만료를 검증한 claims (유효하지 않으면 empty)
+    // 최근 검증한 토큰은 서명 → claims 캐시에서 꺼내 HMAC 검증과 JSON 파싱을 생략
+    // HMAC 서명은 토큰마다 달라 키로 충분하고, 토큰 전체를 해시하지 않아도 됨
+    public Optional<Claims> parse(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        VerifiedToken cached = signature.isEmpty() ? null : verifiedTokens.get(signature);
+        // 서명만 같고 헤더/페이로드를 바꾼 토큰은 캐시를 쓰지 않고 아래 검증에서 거부됨
+        if (cached != null && cached.token().equals(token)) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return Optional.of(cached.claims());
+            }
+            verifiedTokens.remove(signature);
+            return Optional.empty();
+        }
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(signature, new VerifiedToken(token, claims, claims.getExpiration().getTime()));
+            }
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
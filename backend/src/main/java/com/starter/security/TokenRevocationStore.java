@@ -0,0 +1,227 @@
+package com.starter.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 토큰 목록 (로그아웃, refresh 재발급, 탈퇴)
+// 요청마다 확인하므로 메모리 맵 조회만 하고 I/O 는 하지 않음
+// - jti 단위: 토큰 만료 시각까지 보관
+// - 사용자 단위: 이 시각 이전에 발급된 토큰 전체 폐기 (refresh 토큰 최대 수명까지 보관)
+// Redis 가 활성화되어 있으면 키(TTL = 남은 수명)로 저장하고 pub/sub 으로 다른 인스턴스에 전파, 기동 시 기존 키를 읽어 옴
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+    static final String REVOKE_CHANNEL = "auth:token-revoke";
+    private static final String JTI_KEY_PREFIX = "auth:revoked:jti:";
+    private static final String SUBJECT_KEY_PREFIX = "auth:revoked:subject:";
+
+    // jti → 토큰 만료 시각(ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // subject(이메일) → 이 시각(ms) 이전에 발급된 토큰은 무효
+    private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+    private final Counter revokedTokenCounter;
+    private final Counter revokedSubjectCounter;
+    private final Counter rejectedCounter;
+    private final long maxTokenLifetime;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    public TokenRevocationStore(MeterRegistry meterRegistry,
+                                @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                                @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.maxTokenLifetime = Math.max(accessTokenExpiration, refreshTokenExpiration);
+        this.revokedTokenCounter = Counter.builder("auth.token.revocation")
+                .tag("scope", "token")
+                .description("Tokens revoked by jti")
+                .register(meterRegistry);
+        this.revokedSubjectCounter = Counter.builder("auth.token.revocation")
+                .tag("scope", "subject")
+                .description("Revocations of every token issued to a user")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.token.revocation.rejected")
+                .description("Requests carrying a revoked token")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.revocation.size", revokedTokens, Map::size)
+                .tag("scope", "token")
+                .description("Revoked tokens held in memory")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.revocation.size", notBefore, Map::size)
+                .tag("scope", "subject")
+                .description("Per-user revocation cut-offs held in memory")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (redisTemplate == null) {
+            return;
+        }
+        loadFromRedis();
+        if (listenerContainer == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (payload instanceof String value) {
+                apply(value);
+            }
+        }, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            rejectedCounter.increment();
+            return true;
+        }
+        Long cutoff = claims.getSubject() != null ? notBefore.get(claims.getSubject()) : null;
+        Date issuedAt = claims.getIssuedAt();
+        if (cutoff != null && (issuedAt == null || issuedAt.getTime() < cutoff)) {
+            rejectedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // jti 가 없는 이전 형식 토큰은 사용자 단위 폐기로만 막을 수 있음
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(jti, expiration.getTime());
+        revokedTokenCounter.increment();
+        replicate(JTI_KEY_PREFIX + jti, expiration.getTime(), "jti|" + expiration.getTime() + "|" + jti);
+    }
+
+    // refresh 토큰 1회 사용: 아직 폐기되지 않았으면 폐기하고 true
+    // 확인과 폐기를 한 번에 처리해 같은 토큰으로 동시에 refresh 해도 한 요청만 성공
+    // (인스턴스 안에서는 putIfAbsent, 인스턴스 간에는 Redis SET NX)
+    public boolean consume(Claims claims) {
+        if (isRevoked(claims)) {
+            return false;
+        }
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null) {
+            // jti 가 없는 이전 형식 토큰은 1회 사용을 보장할 수 없음
+            return true;
+        }
+        long expiresAt = expiration.getTime();
+        if (revokedTokens.putIfAbsent(jti, expiresAt) != null || !claimInRedis(jti, expiresAt)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        revokedTokenCounter.increment();
+        return true;
+    }
+
+    // 지금까지 발급된 해당 사용자의 토큰 전체 폐기
+    // iat 는 초 단위라 같은 초에 발급된 토큰이 빠지지 않도록 다음 초로 올림 (직후 1초 안에 발급된 토큰도 무효)
+    public void revokeAll(String subject) {
+        if (subject == null) {
+            return;
+        }
+        long cutoff = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        notBefore.merge(subject, cutoff, Math::max);
+        revokedSubjectCounter.increment();
+        replicate(SUBJECT_KEY_PREFIX + subject, cutoff, "sub|" + cutoff + "|" + subject);
+    }
+
+    // 만료된 항목 정리 (만료된 토큰은 서명 검증 단계에서 이미 거부됨)
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval:PT10M}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        notBefore.values().removeIf(cutoff -> cutoff + maxTokenLifetime <= now);
+    }
+
+    private void replicate(String key, long value, String message) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            long ttl = key.startsWith(JTI_KEY_PREFIX) ? value - System.currentTimeMillis() : maxTokenLifetime;
+            redisTemplate.opsForValue().set(key, value, Duration.ofMillis(Math.max(ttl, 1)));
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스에서는 토큰 만료 시각까지 유효할 수 있음
+            log.warn("Failed to replicate token revocation: {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스가 먼저 소비했으면 false (Redis 장애 시에는 이 인스턴스 안에서만 1회 사용 보장)
+    private boolean claimInRedis(String jti, long expiresAt) {
+        if (redisTemplate == null) {
+            return true;
+        }
+        try {
+            Duration ttl = Duration.ofMillis(Math.max(expiresAt - System.currentTimeMillis(), 1));
+            if (Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(JTI_KEY_PREFIX + jti, expiresAt, ttl))) {
+                return false;
+            }
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, "jti|" + expiresAt + "|" + jti);
+        } catch (Exception e) {
+            log.warn("Failed to claim refresh token in Redis: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private void apply(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3) {
+            return;
+        }
+        long value = Long.parseLong(parts[1]);
+        if ("jti".equals(parts[0])) {
+            revokedTokens.put(parts[2], value);
+        } else if ("sub".equals(parts[0])) {
+            notBefore.merge(parts[2], value, Math::max);
+        }
+    }
+
+    private void loadFromRedis() {
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match("auth:revoked:*").count(500).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    if (redisTemplate.opsForValue().get(key) instanceof Number value) {
+                        if (key.startsWith(JTI_KEY_PREFIX)) {
+                            revokedTokens.put(key.substring(JTI_KEY_PREFIX.length()), value.longValue());
+                        } else if (key.startsWith(SUBJECT_KEY_PREFIX)) {
+                            notBefore.merge(key.substring(SUBJECT_KEY_PREFIX.length()), value.longValue(), Math::max);
+                        }
+                    }
+                }
+            }
+            log.info("Token revocations loaded from Redis tokens={} subjects={}", revokedTokens.size(), notBefore.size());
+        } catch (Exception e) {
+            log.warn("Failed to load token revocations from Redis: {}", e.getMessage());
+        }
+    }
+}
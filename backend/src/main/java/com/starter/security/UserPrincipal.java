@@ -20,6 +20,7 @@ public class UserPrincipal implements OAuth2User, UserDetails {
     private String provider;
     private Collection<? extends GrantedAuthority> authorities;
     private Map<String, Object> attributes;
+    private boolean enabled = true;
 
     public UserPrincipal(Long id, String email, String displayName, String provider, Collection<? extends GrantedAuthority> authorities) {
         this.id = id;
@@ -34,13 +35,16 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         List<GrantedAuthority> authorities = Collections.
                 singletonList(new SimpleGrantedAuthority(roleKey));
 
-        return new UserPrincipal(
+        UserPrincipal userPrincipal = new UserPrincipal(
                 user.getId(),
                 user.getEmail(),
                 user.getName(),
                 user.getProvider(),
                 authorities
         );
+        // 탈퇴 처리 중인 계정은 비활성
+        userPrincipal.enabled = !user.isPendingDeletion();
+        return userPrincipal;
     }
 
     public static UserPrincipal create(User user, Map<String, Object> attributes) {
@@ -77,7 +81,7 @@ public class UserPrincipal implements OAuth2User, UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 
     @Override
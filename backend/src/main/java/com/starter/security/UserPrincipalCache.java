@@ -0,0 +1,131 @@
+package com.starter.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// JwtAuthenticationFilter 가 요청마다 사용자를 조회하지 않도록 이메일 → UserPrincipal 을 짧게 캐시
+// 크기 제한 LRU + TTL, 사용자 정보가 바뀌는 곳(가입, OAuth2 프로필 갱신, 탈퇴)에서 명시적으로 무효화
+// Redis 가 활성화되어 있으면 무효화를 pub/sub 으로 다른 인스턴스에도 전파
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    static final String INVALIDATION_CHANNEL = "auth:principal-invalidate";
+
+    private record Entry(UserPrincipal principal, long expiresAt) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${auth.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.principal-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${auth.principal-cache.max-size:10000}") int maxSize) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hitCounter = Counter.builder("auth.principal.cache")
+                .tag("result", "hit")
+                .description("Principal lookups served from the cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.principal.cache")
+                .tag("result", "miss")
+                .description("Principal lookups that went to the database")
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", entries, Map::size)
+                .description("Cached principals")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (listenerContainer == null || redisTemplate == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object email = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (email instanceof String value) {
+                entries.remove(value);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 없는 사용자는 loader 가 던진 예외를 그대로 전달하고 캐시하지 않음
+    public UserPrincipal get(String email, Supplier<UserPrincipal> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt() > System.nanoTime()) {
+            hitCounter.increment();
+            return entry.principal();
+        }
+        missCounter.increment();
+        UserPrincipal principal = loader.get();
+        entries.put(email, new Entry(principal, System.nanoTime() + ttl.toNanos()));
+        return principal;
+    }
+
+    // 지금 제거하고 커밋 후에 한 번 더 제거 (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 대비)
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        entries.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(email);
+                    publish(email);
+                }
+            });
+        } else {
+            publish(email);
+        }
+    }
+
+    private void publish(String email) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 이 지나면 갱신됨
+            log.warn("Failed to publish principal invalidation: {}", e.getMessage());
+        }
+    }
+}
@@ -4,85 +4,162 @@ import com.starter.domain.User;
 import com.starter.dto.request.LoginRequest;
 import com.starter.dto.request.SignupRequest;
 import com.starter.dto.response.TokenResponse;
-import com.starter.repository.PaymentRepository;
 import com.starter.repository.UserRepository;
 import com.starter.security.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.starter.security.TokenRevocationStore;
+import com.starter.security.UserPrincipal;
+import com.starter.security.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PaymentRepository paymentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserDataVersionService userDataVersionService;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthService(UserRepository userRepository,
+                       PasswordHashingService passwordHashingService,
+                       JwtTokenProvider jwtTokenProvider,
+                       UserPrincipalCache userPrincipalCache,
+                       UserDataVersionService userDataVersionService,
+                       EmailExistenceFilter emailExistenceFilter,
+                       TokenRevocationStore tokenRevocationStore,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userPrincipalCache = userPrincipalCache;
+        this.userDataVersionService = userDataVersionService;
+        this.emailExistenceFilter = emailExistenceFilter;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return !emailExistenceFilter.exists(email);
     }
 
     @Transactional
     public TokenResponse signup(SignupRequest signupRequest) {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        if (emailExistenceFilter.exists(signupRequest.getEmail())) {
             throw new IllegalArgumentException("User with this email already exists");
         }
 
         User user = User.builder()
                 .name(signupRequest.getName())
                 .email(signupRequest.getEmail())
-                .password(passwordEncoder.encode(signupRequest.getPassword()))
+                .password(passwordHashingService.encode(signupRequest.getPassword()))
                 .role(com.starter.enums.Role.USER)
                 .provider(com.starter.enums.AuthProvider.local.toString())
                 .build();
 
         userRepository.save(user);
+        emailExistenceFilter.add(user.getEmail());
+        // 같은 이메일로 탈퇴 후 재가입한 경우 이전 계정의 캐시 제거
+        userPrincipalCache.invalidate(user.getEmail());
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getName());
+        String accessToken = jwtTokenProvider.generateAccessToken(UserPrincipal.create(user));
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
         return new TokenResponse(accessToken, refreshToken);
     }
 
+    // 해싱(수백 ms)이 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행
+    // 조회는 짧은 읽기 트랜잭션, 재해싱 저장은 별도의 짧은 쓰기 트랜잭션 (둘 다 끝나면 커넥션 반환)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByEmail(loginRequest.getEmail())
+        User user = readOnlyTransaction.execute(status -> userRepository.findByEmail(loginRequest.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + loginRequest.getEmail()));
 
         if (user.getProvider() != null && !user.getProvider().equals(com.starter.enums.AuthProvider.local.toString())) {
             throw new IllegalArgumentException(user.getProvider() + " 계정입니다. 소셜 로그인을 이용해주세요.");
         }
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid password");
         }
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getName());
+        if (user.isPendingDeletion()) {
+            throw new IllegalArgumentException("탈퇴 처리 중인 계정입니다.");
+        }
+
+        rehashIfNeeded(user, loginRequest.getPassword());
+
+        String accessToken = jwtTokenProvider.generateAccessToken(UserPrincipal.create(user));
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
         return new TokenResponse(accessToken, refreshToken);
     }
 
+    // 탈퇴 요청만 기록하고 실제 삭제는 AccountPurgeJob 이 나눠서 처리
     @Transactional
-    public void deleteAccount(String email) {
+    public void requestAccountDeletion(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + email));
-        paymentRepository.deleteByUserId(user.getId());
-        userRepository.delete(user);
+        if (!user.isPendingDeletion()) {
+            user.setDeletionRequestedAt(LocalDateTime.now());
+        }
+        userDataVersionService.bump(user.getId());
+        userPrincipalCache.invalidate(email);
+        tokenRevocationStore.revokeAll(email);
     }
 
-    public TokenResponse refresh(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
+    // 전달된 접근/refresh 토큰을 만료 시각까지 폐기 (유효하지 않은 토큰은 무시)
+    public void logout(String accessToken, String refreshToken) {
+        jwtTokenProvider.parse(accessToken).ifPresent(tokenRevocationStore::revoke);
+        jwtTokenProvider.parse(refreshToken).ifPresent(tokenRevocationStore::revoke);
+    }
 
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+    // 토큰에 담긴 사용자 정보는 여기서만 DB 기준으로 다시 발급됨
+    public TokenResponse refresh(String refreshToken) {
+        // 사용한 refresh 토큰은 먼저 소비(폐기)해 재사용과 동시 요청 중복 발급을 막음
+        Claims claims = jwtTokenProvider.parse(refreshToken)
+                .filter(tokenRevocationStore::consume)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+        String email = claims.getSubject();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (user.isPendingDeletion()) {
+            throw new IllegalArgumentException("탈퇴 처리 중인 계정입니다.");
+        }
 
-        String newAccessToken = jwtTokenProvider.generateAccessToken(email, user.getName());
+        String newAccessToken = jwtTokenProvider.generateAccessToken(UserPrincipal.create(user));
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(email);
         return new TokenResponse(newAccessToken, newRefreshToken);
     }
+
+    // 설정된 cost 와 다른 해시는 검증에 성공한 평문으로 다시 저장 (해싱 풀이 바쁘면 다음 로그인으로 미룸)
+    // 해싱 중에 비밀번호가 바뀌었으면 조건부 UPDATE 가 0 건이 되어 새 비밀번호를 덮어쓰지 않음
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+        String rehashed;
+        try {
+            rehashed = passwordHashingService.encode(rawPassword);
+        } catch (ResponseStatusException e) {
+            log.debug("Password rehash deferred - userId={}", user.getId());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed));
+    }
 }
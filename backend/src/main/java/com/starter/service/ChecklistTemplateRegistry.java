@@ -0,0 +1,100 @@
+package com.starter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starter.enums.ChecklistCategory;
+import com.starter.enums.ContractPhase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 기본 체크리스트 템플릿 (classpath:checklist-templates/*.json)
+// 기동 시 한 번 읽어 버전별로 메모리에 보관하고, 계약은 생성 시점의 버전을 참조한다
+// 템플릿 항목은 사용자가 수정/완료/파일 첨부할 때만 checklists 행으로 저장된다
+@Component
+@Slf4j
+public class ChecklistTemplateRegistry {
+
+    private static final String LOCATION = "classpath:checklist-templates/*.json";
+    // 가상 id 인코딩 범위 (계약 id * MAX_ITEMS + 순번)
+    static final int MAX_ITEMS = 1000;
+
+    public record TemplateItem(String key, ContractPhase phase, ChecklistCategory category,
+                               String title, String description, boolean required) {
+    }
+
+    public record Template(int version, List<TemplateItem> items) {
+    }
+
+    private final TreeMap<Integer, Template> templates = new TreeMap<>();
+    private final Map<Integer, Map<String, Integer>> indexByKey = new HashMap<>();
+
+    public ChecklistTemplateRegistry(ObjectMapper objectMapper) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+        for (Resource resource : resources) {
+            try (InputStream in = resource.getInputStream()) {
+                register(objectMapper.readValue(in, Template.class), resource.getFilename());
+            }
+        }
+        if (templates.isEmpty()) {
+            throw new IllegalStateException("체크리스트 템플릿이 없습니다: " + LOCATION);
+        }
+        log.info("Checklist templates loaded versions={} latest={}", templates.keySet(), latestVersion());
+    }
+
+    public int latestVersion() {
+        return templates.lastKey();
+    }
+
+    // 버전이 없는 계약(템플릿 도입 전에 행으로 생성된 계약)은 빈 목록
+    public List<TemplateItem> items(Integer version) {
+        if (version == null) {
+            return Collections.emptyList();
+        }
+        Template template = templates.get(version);
+        if (template == null) {
+            throw new IllegalStateException("Unknown checklist template version: " + version);
+        }
+        return template.items();
+    }
+
+    public Integer indexOf(Integer version, String key) {
+        if (version == null || key == null) {
+            return null;
+        }
+        return indexByKey.getOrDefault(version, Collections.emptyMap()).get(key);
+    }
+
+    private void register(Template template, String source) {
+        if (template.items() == null || template.items().isEmpty()) {
+            throw new IllegalStateException("체크리스트 템플릿 항목이 비어 있습니다: " + source);
+        }
+        if (template.items().size() >= MAX_ITEMS) {
+            throw new IllegalStateException("체크리스트 템플릿 항목은 " + (MAX_ITEMS - 1) + "개까지 가능합니다: " + source);
+        }
+        if (templates.containsKey(template.version())) {
+            throw new IllegalStateException("중복된 체크리스트 템플릿 버전입니다: " + template.version());
+        }
+        Map<String, Integer> keys = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < template.items().size(); i++) {
+            String key = template.items().get(i).key();
+            if (key == null || !seen.add(key)) {
+                throw new IllegalStateException("체크리스트 템플릿 key 가 없거나 중복되었습니다: " + source + " " + key);
+            }
+            keys.put(key, i);
+        }
+        templates.put(template.version(), new Template(template.version(), List.copyOf(template.items())));
+        indexByKey.put(template.version(), keys);
+    }
+}
@@ -0,0 +1,59 @@
+package com.starter.service;
+
+import com.starter.domain.Payment;
+import com.starter.repository.ChecklistRepository;
+import com.starter.repository.DepositSourceRepository;
+import com.starter.repository.DocumentRepository;
+import com.starter.repository.MaintenanceRepository;
+import com.starter.repository.PaymentRepository;
+import com.starter.repository.SpecialTermRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 계약에 딸린 하위 데이터를 테이블마다 한 번의 DELETE 로 삭제
+// 첨부 파일 경로는 삭제 전에 모아 같은 트랜잭션에서 삭제 대기열에 기록하고 커밋 이후 FileReclamationService 로 정리
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ContractCascadeService {
+
+    private final ChecklistRepository checklistRepository;
+    private final DocumentRepository documentRepository;
+    private final SpecialTermRepository specialTermRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final DepositSourceRepository depositSourceRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final FileReclamationService fileReclamationService;
+
+    // 계약 행 자체는 호출자가 삭제 (소유자 검증 이후 같은 트랜잭션에서 호출)
+    @Transactional
+    public void deleteContractData(Long userId, Long contractId) {
+        List<String> filePaths = new ArrayList<>();
+        filePaths.addAll(checklistRepository.findFilePathsByContractId(contractId));
+        filePaths.addAll(documentRepository.findFilePathsByContractId(contractId));
+        filePaths.addAll(specialTermRepository.findFilePathsByContractId(contractId));
+        filePaths.addAll(maintenanceRepository.findFilePathsByContractId(contractId));
+
+        int checklists = checklistRepository.deleteByContractId(contractId);
+        int documents = documentRepository.deleteByContractId(contractId);
+        int specialTerms = specialTermRepository.deleteByContractId(contractId);
+        int maintenances = maintenanceRepository.deleteByContractId(contractId);
+        int depositSources = depositSourceRepository.deleteByContractId(contractId);
+
+        // 롤업 차감을 위해 계약에서 생성된 납부 내역만 읽고 삭제는 한 번에
+        List<Payment> contractPayments = paymentRepository.findByUserIdAndSourceTypeAndSourceIdForUpdate(userId, "CONTRACT", contractId);
+        paymentRollupService.removeAll(userId, contractPayments);
+        int payments = paymentRepository.deleteByUserIdAndSourceTypeAndSourceId(userId, "CONTRACT", contractId);
+
+        fileReclamationService.reclaimAfterCommit(filePaths);
+        log.info("Contract data deleted contractId={} checklists={} documents={} specialTerms={} maintenances={} depositSources={} payments={} files={}",
+                contractId, checklists, documents, specialTerms, maintenances, depositSources, payments, filePaths.size());
+    }
+}
@@ -0,0 +1,153 @@
+package com.starter.service;
+
+import com.starter.domain.Contract;
+import com.starter.repository.ContractRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 계약 소유권 확인 공통 처리
+// 계약 소유자는 바뀌지 않으므로 계약 id → 소유자 id 를 크기 제한 LRU 로 캐시하고, 계약 삭제 시 제거
+// Redis 가 활성화되어 있으면 제거를 pub/sub 으로 다른 인스턴스에도 전파
+// 전파가 늦거나 빠진 인스턴스에서도 삭제된 계약에 자식이 붙지 않도록 자식 추가 경로는 캐시 없이 계약을 다시 조회
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ContractOwnershipService {
+
+    static final String EVICTION_CHANNEL = "contract:owner-evict";
+
+    private final ContractRepository contractRepository;
+    private final Map<Long, Long> ownerCache;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    public ContractOwnershipService(ContractRepository contractRepository,
+                                    @Value("${contract.owner-cache.max-size:10000}") int maxSize) {
+        this.contractRepository = contractRepository;
+        this.ownerCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    // 메시지는 쉼표로 이은 계약 id 문자열 (JSON 직렬화 시 Long/Integer 가 섞이지 않도록)
+    @PostConstruct
+    void subscribe() {
+        if (listenerContainer == null || redisTemplate == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object ids = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (ids instanceof String value) {
+                for (String id : value.split(",")) {
+                    try {
+                        ownerCache.remove(Long.valueOf(id.trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring malformed contract owner eviction: {}", id);
+                    }
+                }
+            }
+        }, new ChannelTopic(EVICTION_CHANNEL));
+    }
+
+    // 계약 필드가 필요 없는 경로 (목록 조회 등): 캐시에 있으면 쿼리 없이 확인
+    public void verifyOwner(Long userId, Long contractId) {
+        Long ownerId = ownerCache.get(contractId);
+        if (ownerId == null) {
+            ownerId = loadOwner(contractId);
+        }
+        checkOwner(userId, ownerId);
+    }
+
+    // 자식 엔티티 연결용 참조 (계약 행 전체는 읽지 않음)
+    // 캐시와 무관하게 소유자를 다시 조회해 다른 인스턴스에서 삭제된 계약이면 not found 로 처리
+    public Contract getContractReference(Long userId, Long contractId) {
+        checkOwner(userId, loadOwner(contractId));
+        return contractRepository.getReferenceById(contractId);
+    }
+
+    // 계약 필드가 필요한 경로: 소유자 조건을 포함한 한 번의 조회
+    public Contract getContractAndVerifyOwner(Long userId, Long contractId) {
+        Contract contract = contractRepository.findByIdAndUserId(contractId, userId)
+                .orElseThrow(() -> contractRepository.existsById(contractId)
+                        ? new IllegalArgumentException("Access denied")
+                        : new IllegalArgumentException("Contract not found with id: " + contractId));
+        ownerCache.put(contractId, userId);
+        return contract;
+    }
+
+    public void evict(Long contractId) {
+        evictAll(List.of(contractId));
+    }
+
+    // 지금 제거하고 커밋 후에 한 번 더 제거 (커밋 전에 다른 요청이 다시 캐시하는 경우 대비)
+    public void evictAll(Collection<Long> contractIds) {
+        if (contractIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(contractIds);
+        ids.forEach(ownerCache::remove);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(ownerCache::remove);
+                    publish(ids);
+                }
+            });
+        } else {
+            publish(ids);
+        }
+    }
+
+    private Long loadOwner(Long contractId) {
+        Long ownerId = contractRepository.findUserIdById(contractId)
+                .orElseThrow(() -> {
+                    ownerCache.remove(contractId);
+                    return new IllegalArgumentException("Contract not found with id: " + contractId);
+                });
+        ownerCache.put(contractId, ownerId);
+        return ownerId;
+    }
+
+    private void checkOwner(Long userId, Long ownerId) {
+        if (!ownerId.equals(userId)) {
+            throw new IllegalArgumentException("Access denied");
+        }
+    }
+
+    private void publish(List<Long> contractIds) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL,
+                    contractIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            // 다른 인스턴스의 자식 추가 경로는 계약을 다시 조회하므로 남은 항목은 조회 경로에만 영향
+            log.warn("Failed to publish contract owner eviction: {}", e.getMessage());
+        }
+    }
+}
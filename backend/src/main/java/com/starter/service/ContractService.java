@@ -10,21 +10,20 @@ import com.starter.dto.response.DepositSourceResponse;
 import com.starter.enums.PaymentCategory;
 import com.starter.enums.PaymentStatus;
 import com.starter.repository.ContractRepository;
+import com.starter.repository.DepositSourceJdbcRepository;
 import com.starter.repository.DepositSourceRepository;
 import com.starter.repository.UserRepository;
-import com.starter.repository.ChecklistRepository;
-import com.starter.repository.DocumentRepository;
+import com.starter.repository.PaymentJdbcRepository;
 import com.starter.repository.PaymentRepository;
-import com.starter.repository.SpecialTermRepository;
-import com.starter.repository.MaintenanceRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,17 +33,19 @@ public class ContractService {
 
     private final ContractRepository contractRepository;
     private final DepositSourceRepository depositSourceRepository;
+    private final DepositSourceJdbcRepository depositSourceJdbcRepository;
     private final UserRepository userRepository;
-    private final ChecklistRepository checklistRepository;
-    private final DocumentRepository documentRepository;
-    private final SpecialTermRepository specialTermRepository;
-    private final MaintenanceRepository maintenanceRepository;
     private final PaymentRepository paymentRepository;
-    @Lazy
-    private final ChecklistService checklistService;
+    private final PaymentJdbcRepository paymentJdbcRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final ContractCascadeService contractCascadeService;
+    private final ContractOwnershipService contractOwnershipService;
+    private final ChecklistTemplateRegistry checklistTemplateRegistry;
+    private final UserDataVersionService userDataVersionService;
 
     @Transactional
     public ContractResponse createContract(Long userId, ContractCreateRequest request) {
+        userDataVersionService.bump(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
 
@@ -58,9 +59,13 @@ public class ContractService {
         contract.setMonthlyPaymentDay(request.getMonthlyPaymentDay());
         contract.setStartDate(request.getStartDate());
         contract.setEndDate(request.getEndDate());
+        // 기본 체크리스트는 행을 만들지 않고 템플릿 버전만 연결
+        contract.setChecklistTemplateVersion(checklistTemplateRegistry.latestVersion());
 
         Contract savedContract = contractRepository.save(contract);
 
+        // 보증금 출처와 정기 납부는 각각 한 번의 JDBC 배치로 삽입
+        List<DepositSource> depositSources = new ArrayList<>();
         if (request.getDepositSources() != null) {
             request.getDepositSources().forEach(dsReq -> {
                 DepositSource ds = new DepositSource();
@@ -69,45 +74,53 @@ public class ContractService {
                 ds.setAmount(dsReq.getAmount());
                 ds.setBankName(dsReq.getBankName());
                 ds.setInterestRate(dsReq.getInterestRate());
-                depositSourceRepository.save(ds);
+                depositSources.add(ds);
             });
         }
+        depositSourceJdbcRepository.batchInsert(depositSources);
 
-        // 기본 체크리스트 초기화
-        checklistService.initializeDefaultChecklists(savedContract);
-        syncContractPayments(
-                user,
-                savedContract.getId(),
-                request.getMonthlyRent(),
-                request.getMaintenanceFee(),
-                request.getMonthlyPaymentDay()
-        );
+        // 새 계약에는 연결된 납부 내역이 없으므로 조회 없이 삽입만
+        List<Payment> payments = new ArrayList<>(2);
+        addContractPayment(payments, user, savedContract.getId(), PaymentCategory.RENT, "월세",
+                request.getMonthlyRent(), request.getMonthlyPaymentDay());
+        addContractPayment(payments, user, savedContract.getId(), PaymentCategory.MAINTENANCE, "관리비",
+                request.getMaintenanceFee(), request.getMonthlyPaymentDay());
+        if (!payments.isEmpty()) {
+            paymentJdbcRepository.batchInsert(payments);
+            paymentRollupService.addAll(userId, payments);
+        }
 
-        return toResponse(savedContract);
+        // 방금 저장한 보증금 출처로 응답 구성 (재조회 없음)
+        return toResponse(savedContract, depositSources);
     }
 
     public List<ContractResponse> getContractsByUserId(Long userId) {
-        return contractRepository.findByUserId(userId).stream()
-                .map(this::toResponse)
+        List<Contract> contracts = contractRepository.findByUserId(userId);
+        if (contracts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 보증금 출처는 계약 id 목록으로 한 번에 조회해 계약별로 묶음
+        Map<Long, List<DepositSource>> sourcesByContract = depositSourceRepository
+                .findByContractIdIn(contracts.stream().map(Contract::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ds -> ds.getContract().getId()));
+        return contracts.stream()
+                .map(contract -> toResponse(contract, sourcesByContract.getOrDefault(contract.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
     public ContractResponse getContract(Long userId, Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
+        return toResponse(contractOwnershipService.getContractAndVerifyOwner(userId, contractId));
+    }
+
+    // 소유권 확인이 끝난 계약용 (워크스페이스 조회)
+    public ContractResponse getVerifiedContractResponse(Contract contract) {
         return toResponse(contract);
     }
 
     @Transactional
     public ContractResponse updateContract(Long userId, Long contractId, ContractCreateRequest request) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
+        userDataVersionService.bump(userId);
+        Contract contract = contractOwnershipService.getContractAndVerifyOwner(userId, contractId);
 
         contract.setType(request.getType());
         contract.setAddress(request.getAddress());
@@ -131,21 +144,14 @@ public class ContractService {
 
     @Transactional
     public void deleteContract(Long userId, Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
+        userDataVersionService.bump(userId);
+        Contract contract = contractOwnershipService.getContractAndVerifyOwner(userId, contractId);
 
         // 연관 데이터 먼저 삭제
-        checklistRepository.deleteByContractId(contractId);
-        documentRepository.deleteByContractId(contractId);
-        specialTermRepository.deleteByContractId(contractId);
-        maintenanceRepository.deleteByContractId(contractId);
-        depositSourceRepository.deleteByContractId(contractId);
-        paymentRepository.deleteByUserIdAndSourceTypeAndSourceId(userId, "CONTRACT", contractId);
+        contractCascadeService.deleteContractData(userId, contractId);
 
         contractRepository.delete(contract);
+        contractOwnershipService.evict(contractId);
     }
 
     private void syncContractPayments(
@@ -155,7 +161,7 @@ public class ContractService {
             BigDecimal maintenanceFee,
             Integer monthlyPaymentDay
     ) {
-        List<Payment> existing = paymentRepository.findByUserIdAndSourceTypeAndSourceId(user.getId(), "CONTRACT", contractId);
+        List<Payment> existing = paymentRepository.findByUserIdAndSourceTypeAndSourceIdForUpdate(user.getId(), "CONTRACT", contractId);
         syncContractPaymentByCategory(existing, user, contractId, PaymentCategory.RENT, "월세", monthlyRent, monthlyPaymentDay);
         syncContractPaymentByCategory(existing, user, contractId, PaymentCategory.MAINTENANCE, "관리비", maintenanceFee, monthlyPaymentDay);
     }
@@ -173,32 +179,19 @@ public class ContractService {
                 .filter(payment -> payment.getCategory() == category)
                 .collect(Collectors.toList());
 
-        int resolvedPaymentDay = (monthlyPaymentDay != null && monthlyPaymentDay >= 1 && monthlyPaymentDay <= 31)
-                ? monthlyPaymentDay
-                : 25;
+        int resolvedPaymentDay = resolvePaymentDay(monthlyPaymentDay);
 
-        boolean hasAmount = amount != null && amount.compareTo(BigDecimal.ZERO) > 0;
-        if (!hasAmount) {
-            payments.forEach(paymentRepository::delete);
+        if (!hasAmount(amount)) {
+            payments.forEach(this::deletePayment);
             return;
         }
 
         Payment target;
         if (payments.isEmpty()) {
-            target = Payment.builder()
-                    .user(user)
-                    .name(name)
-                    .category(category)
-                    .amount(amount)
-                    .paymentDay(resolvedPaymentDay)
-                    .isRecurring(true)
-                    .autoPay(false)
-                    .status(PaymentStatus.UPCOMING)
-                    .sourceType("CONTRACT")
-                    .sourceId(contractId)
-                    .build();
+            target = newContractPayment(user, contractId, category, name, amount, resolvedPaymentDay);
         } else {
             target = payments.get(0);
+            paymentRollupService.remove(target);
             target.setName(name);
             target.setAmount(amount);
             target.setIsRecurring(true);
@@ -212,14 +205,56 @@ public class ContractService {
                 target.setAutoPay(false);
             }
             if (payments.size() > 1) {
-                payments.stream().skip(1).forEach(paymentRepository::delete);
+                payments.stream().skip(1).forEach(this::deletePayment);
             }
         }
 
-        paymentRepository.save(target);
+        paymentRollupService.add(paymentRepository.save(target));
+    }
+
+    private void addContractPayment(List<Payment> payments, User user, Long contractId, PaymentCategory category,
+                                    String name, BigDecimal amount, Integer monthlyPaymentDay) {
+        if (hasAmount(amount)) {
+            payments.add(newContractPayment(user, contractId, category, name, amount, resolvePaymentDay(monthlyPaymentDay)));
+        }
+    }
+
+    private Payment newContractPayment(User user, Long contractId, PaymentCategory category,
+                                       String name, BigDecimal amount, int paymentDay) {
+        return Payment.builder()
+                .user(user)
+                .name(name)
+                .category(category)
+                .amount(amount)
+                .paymentDay(paymentDay)
+                .isRecurring(true)
+                .autoPay(false)
+                .status(PaymentStatus.UPCOMING)
+                .sourceType("CONTRACT")
+                .sourceId(contractId)
+                .build();
+    }
+
+    private boolean hasAmount(BigDecimal amount) {
+        return amount != null && amount.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    private int resolvePaymentDay(Integer monthlyPaymentDay) {
+        return (monthlyPaymentDay != null && monthlyPaymentDay >= 1 && monthlyPaymentDay <= 31)
+                ? monthlyPaymentDay
+                : 25;
+    }
+
+    private void deletePayment(Payment payment) {
+        paymentRollupService.remove(payment);
+        paymentRepository.delete(payment);
     }
 
     private ContractResponse toResponse(Contract contract) {
+        return toResponse(contract, depositSourceRepository.findByContractId(contract.getId()));
+    }
+
+    private ContractResponse toResponse(Contract contract, List<DepositSource> sources) {
         ContractResponse response = new ContractResponse();
         response.setId(contract.getId());
         response.setType(contract.getType());
@@ -232,7 +267,6 @@ public class ContractService {
         response.setEndDate(contract.getEndDate());
         response.setCreatedAt(contract.getCreatedAt());
 
-        List<DepositSource> sources = depositSourceRepository.findByContractId(contract.getId());
         response.setDepositSources(sources.stream().map(ds -> {
             DepositSourceResponse dsr = new DepositSourceResponse();
             dsr.setId(ds.getId());
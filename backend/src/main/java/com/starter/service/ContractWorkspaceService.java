@@ -0,0 +1,158 @@
+package com.starter.service;
+
+import com.starter.domain.Contract;
+import com.starter.dto.response.ChecklistProgressResponse;
+import com.starter.dto.response.ChecklistResponse;
+import com.starter.dto.response.ContractResponse;
+import com.starter.dto.response.ContractWorkspaceResponse;
+import com.starter.dto.response.DocumentResponse;
+import com.starter.dto.response.MaintenanceResponse;
+import com.starter.dto.response.SpecialTermResponse;
+import com.starter.enums.ContractPhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 계약 상세 화면 데이터를 한 번에 조회
+// 소유권은 한 번만 확인하고, 하위 목록은 제한된 스레드 풀에서 각자 읽기 전용 트랜잭션으로 동시에 조회
+// 풀과 대기열이 모두 차면 요청 스레드에서 직접 실행 (순차 조회로 후퇴)
+@Service
+@Slf4j
+public class ContractWorkspaceService {
+
+    private final ContractOwnershipService contractOwnershipService;
+    private final ContractService contractService;
+    private final ChecklistService checklistService;
+    private final DocumentService documentService;
+    private final SpecialTermService specialTermService;
+    private final MaintenanceService maintenanceService;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${contract.workspace.timeout:5s}")
+    private Duration timeout;
+
+    public ContractWorkspaceService(ContractOwnershipService contractOwnershipService,
+                                    ContractService contractService,
+                                    ChecklistService checklistService,
+                                    DocumentService documentService,
+                                    SpecialTermService specialTermService,
+                                    MaintenanceService maintenanceService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${contract.workspace.pool-size:4}") int poolSize,
+                                    @Value("${contract.workspace.queue-capacity:100}") int queueCapacity) {
+        this.contractOwnershipService = contractOwnershipService;
+        this.contractService = contractService;
+        this.checklistService = checklistService;
+        this.documentService = documentService;
+        this.specialTermService = specialTermService;
+        this.maintenanceService = maintenanceService;
+        // 작업마다 자기 트랜잭션에서 커넥션을 하나씩 쓰고 끝나면 반납
+        // 요청 스레드는 소유권 확인 트랜잭션이 끝나면 커넥션을 반납하므로 (open-in-view 비활성화) 대기 중에 커넥션을 붙잡지 않음
+        // 동시에 쓰는 커넥션은 최대 pool-size 개이므로 Hikari maximum-pool-size(기본 10)에서 다른 요청 몫을 남기도록 설정
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("contract-workspace-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "contract.workspace", Tags.empty())
+                .bindTo(meterRegistry);
+    }
+
+    public ContractWorkspaceResponse getWorkspace(Long userId, Long contractId) {
+        // 반환된 계약은 준영속 상태이며 하위 조회는 스칼라 필드만 읽음
+        Contract contract = contractOwnershipService.getContractAndVerifyOwner(userId, contractId);
+
+        CompletableFuture<ContractResponse> contractFuture = submit(() -> contractService.getVerifiedContractResponse(contract));
+        CompletableFuture<List<ChecklistResponse>> checklistsFuture = submit(() -> checklistService.getChecklistsOfVerifiedContract(contract));
+        CompletableFuture<List<DocumentResponse>> documentsFuture = submit(() -> documentService.getDocumentsOfVerifiedContract(contractId));
+        CompletableFuture<List<SpecialTermResponse>> specialTermsFuture = submit(() -> specialTermService.getSpecialTermsOfVerifiedContract(contractId));
+        CompletableFuture<List<MaintenanceResponse>> maintenancesFuture = submit(() -> maintenanceService.getMaintenancesOfVerifiedContract(contractId));
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(
+                contractFuture, checklistsFuture, documentsFuture, specialTermsFuture, maintenancesFuture);
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Contract workspace timed out - contractId={}, timeout={}", contractId, timeout);
+            throw new IllegalStateException("계약 정보를 불러오는 데 시간이 너무 오래 걸립니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계약 정보 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        List<ChecklistResponse> checklists = checklistsFuture.join();
+        return new ContractWorkspaceResponse(
+                contractFuture.join(),
+                checklists,
+                toProgress(checklists),
+                documentsFuture.join(),
+                specialTermsFuture.join(),
+                maintenancesFuture.join()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    private List<ChecklistProgressResponse> toProgress(List<ChecklistResponse> checklists) {
+        List<ChecklistProgressResponse> progress = new ArrayList<>();
+        for (ContractPhase phase : ContractPhase.values()) {
+            int total = 0;
+            int completed = 0;
+            int requiredTotal = 0;
+            int requiredCompleted = 0;
+            for (ChecklistResponse checklist : checklists) {
+                if (checklist.getPhase() != phase) {
+                    continue;
+                }
+                boolean done = Boolean.TRUE.equals(checklist.getIsCompleted());
+                total++;
+                completed += done ? 1 : 0;
+                if (Boolean.TRUE.equals(checklist.getIsRequired())) {
+                    requiredTotal++;
+                    requiredCompleted += done ? 1 : 0;
+                }
+            }
+            progress.add(new ChecklistProgressResponse(phase, total, completed, requiredTotal, requiredCompleted));
+        }
+        return progress;
+    }
+
+    // 하위 조회에서 던진 예외를 그대로 전달 (IllegalArgumentException 등은 GlobalExceptionHandler 가 처리)
+    private RuntimeException unwrap(Throwable cause) {
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException && !(cause instanceof CancellationException)) {
+            return runtimeException;
+        }
+        return new IllegalStateException("계약 정보 조회에 실패했습니다.", cause);
+    }
+}
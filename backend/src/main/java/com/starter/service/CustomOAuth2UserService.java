@@ -5,12 +5,14 @@ import com.starter.enums.AuthProvider;
 import com.starter.enums.Role;
 import com.starter.repository.UserRepository;
 import com.starter.security.UserPrincipal;
+import com.starter.security.UserPrincipalCache;
 import com.starter.security.oauth2.OAuth2UserInfo;
 import com.starter.security.oauth2.OAuth2UserInfoFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -22,6 +24,8 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final EmailExistenceFilter emailExistenceFilter;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -39,6 +43,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         User user;
         if (userOptional.isPresent()) {
             user = userOptional.get();
+            if (user.isPendingDeletion()) {
+                throw new OAuth2AuthenticationException(new OAuth2Error("account_pending_deletion"), "탈퇴 처리 중인 계정입니다.");
+            }
             if (!user.getProvider().equalsIgnoreCase(AuthProvider.valueOf(registrationId).toString())) {
                 // 같은 이메일, 다른 provider → 기존 계정에 provider 연동
                 user.setProvider(registrationId);
@@ -49,17 +56,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             user = registerNewUser(userRequest, oAuth2UserInfo, email);
         }
 
+        userPrincipalCache.invalidate(user.getEmail());
         return UserPrincipal.create(user, oAuth2User.getAttributes());
     }
 
     private User registerNewUser(OAuth2UserRequest oAuth2UserRequest, OAuth2UserInfo oAuth2UserInfo, String email) {
-        return userRepository.save(User.builder()
+        User user = userRepository.save(User.builder()
                 .provider(oAuth2UserRequest.getClientRegistration().getRegistrationId())
                 .providerId(oAuth2UserInfo.getId())
                 .name(oAuth2UserInfo.getName())
                 .email(email)
                 .role(Role.USER)
                 .build());
+        emailExistenceFilter.add(email);
+        return user;
     }
 
     private User updateExistingUser(User existingUser, OAuth2UserInfo oAuth2UserInfo) {
@@ -4,22 +4,15 @@ import com.starter.domain.Contract;
 import com.starter.domain.Document;
 import com.starter.dto.request.DocumentCreateRequest;
 import com.starter.dto.response.DocumentResponse;
-import com.starter.repository.ContractRepository;
 import com.starter.repository.DocumentRepository;
+import com.starter.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -30,24 +23,31 @@ import java.util.stream.Collectors;
 public class DocumentService {
 
     private final DocumentRepository documentRepository;
-    private final ContractRepository contractRepository;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    private final UserRepository userRepository;
+    private final ContractOwnershipService contractOwnershipService;
+    private final UserDataVersionService userDataVersionService;
+    private final FileStorageService fileStorageService;
+    private final FileReclamationService fileReclamationService;
 
     public List<DocumentResponse> getDocumentsByContract(Long userId, Long contractId) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
-        return documentRepository.findByContractId(contract.getId()).stream()
+        contractOwnershipService.verifyOwner(userId, contractId);
+        return getDocumentsOfVerifiedContract(contractId);
+    }
+
+    // 소유권 확인이 끝난 계약용 (워크스페이스 조회)
+    public List<DocumentResponse> getDocumentsOfVerifiedContract(Long contractId) {
+        return documentRepository.findByContractId(contractId).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public DocumentResponse createDocument(Long userId, Long contractId, DocumentCreateRequest request) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
+        userDataVersionService.bump(userId);
+        Contract contract = contractOwnershipService.getContractReference(userId, contractId);
 
         Document document = new Document();
-        document.setUser(contract.getUser());
+        document.setUser(userRepository.getReferenceById(userId));
         document.setContract(contract);
         document.setName(request.getName());
         document.setCategory(request.getCategory());
@@ -60,6 +60,7 @@ public class DocumentService {
 
     @Transactional
     public DocumentResponse updateDocument(Long userId, Long documentId, DocumentCreateRequest request) {
+        userDataVersionService.bump(userId);
         Document document = getDocumentAndVerifyOwner(userId, documentId);
         document.setName(request.getName());
         document.setCategory(request.getCategory());
@@ -73,28 +74,28 @@ public class DocumentService {
 
     @Transactional
     public void deleteDocument(Long userId, Long documentId) {
+        userDataVersionService.bump(userId);
         Document document = getDocumentAndVerifyOwner(userId, documentId);
+        reclaimStoredFile(document.getFilePath());
         documentRepository.delete(document);
     }
 
     @Transactional
     public DocumentResponse uploadFile(Long userId, Long documentId, MultipartFile file) {
+        userDataVersionService.bump(userId);
         Document document = getDocumentAndVerifyOwner(userId, documentId);
 
         try {
-            Path dir = Paths.get(uploadDir, userId.toString(), documentId.toString());
-            Files.createDirectories(dir);
-
             String originalName = file.getOriginalFilename();
             String ext = "";
             if (originalName != null && originalName.contains(".")) {
                 ext = originalName.substring(originalName.lastIndexOf("."));
             }
             String storedName = UUID.randomUUID() + ext;
-            Path filePath = dir.resolve(storedName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            String filePath = fileStorageService.store("documents/" + userId + "/" + documentId + "/" + storedName, file);
+            reclaimStoredFile(document.getFilePath());
 
-            document.setFilePath(filePath.toString());
+            document.setFilePath(filePath);
             document.setFileName(originalName);
             return toResponse(documentRepository.save(document));
         } catch (IOException e) {
@@ -107,34 +108,21 @@ public class DocumentService {
         if (document.getFilePath() == null || document.getFilePath().isBlank()) {
             throw new IllegalArgumentException("첨부된 파일이 없습니다.");
         }
-        try {
-            Path filePath = Paths.get(document.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-            if (!resource.exists()) {
-                throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
-            }
-            return resource;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("파일 경로 오류", e);
-        }
+        return fileStorageService.load(document.getFilePath(), document.getFileName());
     }
 
-    private Contract getContractAndVerifyOwner(Long userId, Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
+    // 커밋 이후 삭제 (롤백되면 파일 유지)
+    private void reclaimStoredFile(String filePath) {
+        if (filePath != null && !filePath.isBlank()) {
+            fileReclamationService.reclaimAfterCommit(List.of(filePath));
         }
-        return contract;
     }
 
     private Document getDocumentAndVerifyOwner(Long userId, Long documentId) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new IllegalArgumentException("Document not found with id: " + documentId));
-        if (!document.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
-        return document;
+        return documentRepository.findByIdAndUserId(documentId, userId)
+                .orElseThrow(() -> documentRepository.existsById(documentId)
+                        ? new IllegalArgumentException("Access denied")
+                        : new IllegalArgumentException("Document not found with id: " + documentId));
     }
 
     private DocumentResponse toResponse(Document document) {
@@ -0,0 +1,279 @@
+package com.starter.service;
+
+import com.starter.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+// 가입된 이메일의 Bloom 필터
+// "없음" 은 확정이라 DB 를 조회하지 않고, "있을 수 있음" 일 때만 existsByEmail 로 확인
+// 기동 직후 구성 전이거나 비활성화되어 있으면 항상 DB 로 확인
+// 삭제는 반영할 수 없어 탈퇴한 이메일은 다음 재구성 전까지 DB 로 확인됨 (결과는 항상 정확)
+@Component
+@Slf4j
+public class EmailExistenceFilter {
+
+    static final String ADD_CHANNEL = "auth:email-filter-add";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter absentCounter;
+    private final Counter presentCounter;
+    private final Counter falsePositiveCounter;
+
+    // 조회는 락 없이, 추가와 교체는 this 로 동기화
+    private volatile BloomFilter current;
+    private BloomFilter building;
+
+    @Value("${auth.email-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.email-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${auth.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 재구성 조회의 fetch size (prod MySQL 은 Integer.MIN_VALUE 로 행 단위 스트리밍, H2 는 음수 불가)
+    @Value("${auth.email-filter.fetch-size:1000}")
+    private int fetchSize;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    public EmailExistenceFilter(UserRepository userRepository,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.absentCounter = Counter.builder("auth.email.filter")
+                .tag("result", "absent")
+                .description("Email checks answered by the filter without a query")
+                .register(meterRegistry);
+        this.presentCounter = Counter.builder("auth.email.filter")
+                .tag("result", "present")
+                .description("Email checks confirmed present by the database")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.email.filter")
+                .tag("result", "false_positive")
+                .description("Email checks the filter passed to the database that turned out absent")
+                .register(meterRegistry);
+        Gauge.builder("auth.email.filter.fpp", this, filter -> {
+                    BloomFilter bloom = filter.current;
+                    return bloom == null ? Double.NaN : bloom.expectedFpp();
+                })
+                .description("Estimated false positive probability from the filter's fill ratio")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (listenerContainer == null || redisTemplate == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object email = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (email instanceof String value) {
+                addLocal(value);
+            }
+        }, new ChannelTopic(ADD_CHANNEL));
+    }
+
+    public boolean exists(String email) {
+        BloomFilter bloom = current;
+        if (enabled && bloom != null && email != null && !bloom.mightContain(normalize(email))) {
+            absentCounter.increment();
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        (exists ? presentCounter : falsePositiveCounter).increment();
+        return exists;
+    }
+
+    // 가입 트랜잭션이 커밋된 뒤 반영 (재구성 중이면 새 필터에도 추가)
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addLocal(email);
+                    publish(email);
+                }
+            });
+        } else {
+            addLocal(email);
+            publish(email);
+        }
+    }
+
+    // 기동 시 한 번, 이후 주기적으로 users 테이블을 훑어 새로 구성 (크기 재계산, 탈퇴한 이메일 제거)
+    @Scheduled(fixedDelayString = "${auth.email-filter.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, userRepository.count() * 2), falsePositiveRate);
+        synchronized (this) {
+            building = next;
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = entityManager.createQuery("select u.email from User u", String.class)
+                        .setHint(HINT_FETCH_SIZE, fetchSize)
+                        .getResultStream()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            });
+            synchronized (this) {
+                current = next;
+            }
+            log.info("Email filter rebuilt entries={} bits={} expectedFpp={} elapsedMs={}",
+                    next.entries(), next.bitSize(), String.format("%.5f", next.expectedFpp()),
+                    System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            // 이전 필터(없으면 DB 조회)로 계속 동작
+            log.warn("Email filter rebuild failed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                building = null;
+            }
+        }
+    }
+
+    private synchronized void addLocal(String email) {
+        String normalized = normalize(email);
+        if (building != null) {
+            building.put(normalized);
+        }
+        if (current != null) {
+            current.put(normalized);
+        }
+    }
+
+    private void publish(String email) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(ADD_CHANNEL, email);
+        } catch (Exception e) {
+            // 다른 인스턴스는 DB 로 확인되거나 다음 재구성 때 반영됨
+            log.warn("Failed to publish email filter addition: {}", e.getMessage());
+        }
+    }
+
+    // MySQL 기본 collation 이 대소문자를 구분하지 않으므로 소문자로 통일
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // AtomicLongArray 비트 배열 + 이중 해싱 (k 개 위치 = h1 + i * h2)
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLong bitsSet = new AtomicLong();
+        private final AtomicLong entries = new AtomicLong();
+
+        private BloomFilter(long bitSize, int hashCount) {
+            this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+            this.bitSize = bits.length() * 64L;
+            this.hashCount = hashCount;
+        }
+
+        static BloomFilter create(long expectedInsertions, double fpp) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+            return new BloomFilter(m, k);
+        }
+
+        void put(String value) {
+            long[] hashes = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+                long mask = 1L << index;
+                long previous = bits.getAndAccumulate((int) (index >>> 6), mask, (a, b) -> a | b);
+                if ((previous & mask) == 0) {
+                    bitsSet.incrementAndGet();
+                }
+            }
+            entries.incrementAndGet();
+        }
+
+        boolean mightContain(String value) {
+            long[] hashes = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFpp() {
+            return Math.pow((double) bitsSet.get() / bitSize, hashCount);
+        }
+
+        long entries() {
+            return entries.get();
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        // FNV-1a 64 후 splitmix64 로 섞어 두 해시를 만듦
+        private static long[] hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xff;
+                h *= 0x100000001b3L;
+            }
+            long h1 = mix(h);
+            long h2 = mix(h1) | 1;
+            return new long[]{h1, h2};
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
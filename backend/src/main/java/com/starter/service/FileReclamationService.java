@@ -0,0 +1,148 @@
+package com.starter.service;
+
+import com.starter.domain.PendingFileDeletion;
+import com.starter.repository.PendingFileDeletionJdbcRepository;
+import com.starter.repository.PendingFileDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// DB 에서 삭제된 레코드의 첨부 파일(로컬/S3)을 커밋 이후 비동기로 정리
+// 삭제할 경로는 레코드 삭제와 같은 트랜잭션에서 pending_file_deletions 에 기록하고, 커밋 직후와 주기적으로 대기열을 비운다
+// 실패하면 지수 백오프로 재시도하고, 최대 횟수를 넘기면 행을 남겨 둔 채 경로를 로그로 남긴다
+@Service
+@Slf4j
+public class FileReclamationService {
+
+    private final FileStorageService fileStorageService;
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final PendingFileDeletionJdbcRepository pendingFileDeletionJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final Counter reclaimedCounter;
+    private final Counter retryCounter;
+    private final Counter abandonedCounter;
+
+    @Value("${file.reclaim.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${file.reclaim.initial-backoff:2s}")
+    private Duration initialBackoff;
+
+    @Value("${file.reclaim.batch-size:100}")
+    private int batchSize;
+
+    public FileReclamationService(FileStorageService fileStorageService,
+                                  PendingFileDeletionRepository pendingFileDeletionRepository,
+                                  PendingFileDeletionJdbcRepository pendingFileDeletionJdbcRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.pendingFileDeletionJdbcRepository = pendingFileDeletionJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("file-reclaim-");
+        this.scheduler.initialize();
+        this.reclaimedCounter = Counter.builder("file.reclaim.deleted")
+                .description("Stored files deleted after their records were removed")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("file.reclaim.retries")
+                .description("File deletions rescheduled after a failure")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("file.reclaim.abandoned")
+                .description("File deletions given up after the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    // 현재 트랜잭션에 삭제 대기열을 기록하고 커밋된 뒤에만 삭제 (롤백되면 기록과 함께 파일 유지)
+    public void reclaimAfterCommit(Collection<String> filePaths) {
+        List<String> paths = filePaths.stream()
+                .filter(path -> path != null && !path.isBlank())
+                .distinct()
+                .toList();
+        if (paths.isEmpty()) {
+            return;
+        }
+        pendingFileDeletionJdbcRepository.batchInsert(paths, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(Duration.ZERO);
+                }
+            });
+        } else {
+            schedule(Duration.ZERO);
+        }
+    }
+
+    // 커밋 직후 처리 전에 서버가 내려갔거나 재시도를 기다리는 행 처리 (기동 직후 한 번 실행)
+    @Scheduled(fixedDelayString = "${file.reclaim.poll-interval:PT1M}")
+    public void drainPending() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("File reclamation queue drain failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void schedule(Duration delay) {
+        scheduler.schedule(this::drainPending, Instant.now().plus(delay));
+    }
+
+    private void drain() {
+        List<PendingFileDeletion> due;
+        do {
+            due = pendingFileDeletionRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+            due.forEach(this::reclaim);
+        } while (due.size() >= batchSize);
+    }
+
+    private void reclaim(PendingFileDeletion pending) {
+        int attempt = pending.getAttempts() + 1;
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        int claimed = Objects.requireNonNull(transactionTemplate.execute(status -> pendingFileDeletionRepository.claim(
+                pending.getId(), pending.getAttempts(), LocalDateTime.now().plus(backoff))));
+        if (claimed == 0) {
+            return;
+        }
+        try {
+            fileStorageService.delete(pending.getFilePath());
+            transactionTemplate.executeWithoutResult(status -> pendingFileDeletionRepository.deleteCompleted(pending.getId()));
+            reclaimedCounter.increment();
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                abandonedCounter.increment();
+                log.error("File reclamation abandoned after {} attempts: {}", attempt, pending.getFilePath(), e);
+                return;
+            }
+            retryCounter.increment();
+            log.warn("File reclamation failed (attempt {}/{}), retrying in {}s: {} - {}",
+                    attempt, maxAttempts, backoff.toSeconds(), pending.getFilePath(), e.getMessage());
+            schedule(backoff);
+        }
+    }
+}
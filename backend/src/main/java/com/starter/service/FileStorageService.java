@@ -0,0 +1,333 @@
+package com.starter.service;
+
+import com.starter.storage.StorageEngine;
+import com.starter.storage.StoredObject;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 첨부 파일 저장/조회 공통 처리
+// 새 파일은 설정된 저장소(storage.s3.enabled)에 쓰고, 조회/삭제는 location 형식으로 저장소를 골라 이전 파일도 그대로 읽음
+// 저장소별 요청 시간(storage.requests)과 전송 바이트(storage.bytes)를 기록
+// 다운로드는 저장소 스트림을 응답으로 바로 흘려보내고, storage.s3.presigned-download.enabled 이면 S3 임시 URL 로 넘김
+// Range 요청은 Spring 이 ResourceRegion 으로 처리 (전체 스트림에서 앞부분을 건너뜀, 로컬 파일은 seek)
+// 큰 S3 파일의 부분 요청은 임시 URL 모드에서 S3 가 직접 처리
+@Service
+@Slf4j
+public class FileStorageService {
+
+    private final List<StorageEngine> engines;
+    private final StorageEngine writeEngine;
+    private final MeterRegistry meterRegistry;
+    private final boolean presignedDownloads;
+    private final Duration presignedDownloadTtl;
+
+    public FileStorageService(List<StorageEngine> engines,
+                              MeterRegistry meterRegistry,
+                              @Value("${storage.s3.enabled:false}") boolean s3Enabled,
+                              @Value("${storage.s3.presigned-download.enabled:false}") boolean presignedDownloads,
+                              @Value("${storage.s3.presigned-download.ttl:PT5M}") Duration presignedDownloadTtl) {
+        this.engines = engines;
+        this.meterRegistry = meterRegistry;
+        this.presignedDownloads = presignedDownloads;
+        this.presignedDownloadTtl = presignedDownloadTtl;
+        String writeBackend = s3Enabled ? "s3" : "local";
+        this.writeEngine = engines.stream()
+                .filter(engine -> engine.name().equals(writeBackend))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("저장소를 찾을 수 없습니다: " + writeBackend));
+    }
+
+    public String backendName() {
+        return writeEngine.name();
+    }
+
+    // 업로드 스트림을 그대로 저장소로 전달하고 DB 에 저장할 location 을 반환
+    public String store(String key, MultipartFile file) throws IOException {
+        long startedAt = System.nanoTime();
+        try (InputStream content = file.getInputStream()) {
+            String location = writeEngine.put(key, content, file.getSize(), file.getContentType());
+            record(writeEngine, "put", startedAt, true);
+            bytes(writeEngine, "put").record(file.getSize());
+            return location;
+        } catch (IOException | RuntimeException e) {
+            record(writeEngine, "put", startedAt, false);
+            throw e;
+        }
+    }
+
+    // 응답 본문으로 쓸 Resource
+    // 스트림 응답: 여기서 GET 을 한 번 보내 크기/Content-Type 을 받고, 열린 스트림은 응답을 쓸 때 그대로 사용
+    // 임시 URL 응답: 저장소 요청 없이 location 만 담아 두고 presignedUrl 로 URL 을 만듦
+    public Resource load(String location, String fileName) {
+        StorageEngine engine = engineFor(location);
+        String name = fileName != null ? fileName : fileNameOf(location);
+        if (presignedDownloads && engine.supportsPresignedGet()) {
+            return new StoredFileResource(this, engine, location, name, null);
+        }
+        try {
+            StoredFileResource resource = new StoredFileResource(this, engine, location, name, get(engine, location));
+            releaseAfterRequest(resource);
+            return resource;
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
+        } catch (IOException e) {
+            throw new RuntimeException("파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
+    // 요청이 끝날 때까지 응답에 쓰이지 않은 스트림은 닫아 저장소 연결을 돌려줌 (예외, 응답 본문 생략 등)
+    private static void releaseAfterRequest(StoredFileResource resource) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.registerDestructionCallback(
+                    StoredFileResource.class.getName() + "@" + System.identityHashCode(resource),
+                    resource::releasePending, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // 저장소에 기록된 Content-Type (없으면 empty)
+    public Optional<String> contentTypeOf(Resource resource) {
+        if (resource instanceof StoredFileResource stored) {
+            return Optional.ofNullable(stored.contentType);
+        }
+        return Optional.empty();
+    }
+
+    // load 가 임시 URL 응답용으로 만든 Resource 면 저장소에서 직접 받을 URL 반환
+    // 서명에 실패하면 empty 를 돌려 스트림 응답으로 처리되게 함
+    public Optional<URI> presignedUrl(Resource resource, String contentType, String contentDisposition) {
+        if (!(resource instanceof StoredFileResource stored) || !stored.deferred) {
+            return Optional.empty();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Optional<URI> url = stored.engine.presignedGet(stored.location, presignedDownloadTtl, contentType, contentDisposition);
+            record(stored.engine, "presign", startedAt, true);
+            return url;
+        } catch (IOException | RuntimeException e) {
+            record(stored.engine, "presign", startedAt, false);
+            log.warn("Presigned download URL failed, streaming instead: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public InputStream open(String location) throws IOException {
+        StorageEngine engine = engineFor(location);
+        return get(engine, location).content();
+    }
+
+    private StoredObject get(StorageEngine engine, String location) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            StoredObject object = engine.get(location);
+            record(engine, "get", startedAt, true);
+            return new StoredObject(new CountingInputStream(object.content(), bytes(engine, "get")),
+                    object.size(), object.contentType());
+        } catch (NoSuchFileException e) {
+            record(engine, "get", startedAt, true);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            record(engine, "get", startedAt, false);
+            throw e;
+        }
+    }
+
+    public boolean exists(String location) throws IOException {
+        StorageEngine engine = engineFor(location);
+        long startedAt = System.nanoTime();
+        try {
+            boolean exists = engine.exists(location);
+            record(engine, "exists", startedAt, true);
+            return exists;
+        } catch (IOException | RuntimeException e) {
+            record(engine, "exists", startedAt, false);
+            throw e;
+        }
+    }
+
+    // 바로 지우지 말고 FileReclamationService.reclaimAfterCommit 을 통해 호출 (롤백 시 파일 유지, 실패 시 재시도)
+    public void delete(String location) throws IOException {
+        StorageEngine engine = engineFor(location);
+        long startedAt = System.nanoTime();
+        try {
+            engine.delete(location);
+            record(engine, "delete", startedAt, true);
+        } catch (NoSuchFileException e) {
+            record(engine, "delete", startedAt, true);
+        } catch (IOException | RuntimeException e) {
+            record(engine, "delete", startedAt, false);
+            throw e;
+        }
+    }
+
+    private StorageEngine engineFor(String location) {
+        return engines.stream()
+                .filter(engine -> engine.supports(location))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("파일 경로를 처리할 저장소가 없습니다: " + location));
+    }
+
+    private void record(StorageEngine engine, String operation, long startedAt, boolean success) {
+        Timer.builder("storage.requests")
+                .tag("backend", engine.name())
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "error")
+                .description("Storage backend request latency")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary bytes(StorageEngine engine, String operation) {
+        return DistributionSummary.builder("storage.bytes")
+                .tag("backend", engine.name())
+                .tag("operation", operation)
+                .baseUnit("bytes")
+                .description("Bytes transferred to or from a storage backend")
+                .register(meterRegistry);
+    }
+
+    private static String fileNameOf(String location) {
+        int slash = Math.max(location.lastIndexOf('/'), location.lastIndexOf('\\'));
+        return slash >= 0 ? location.substring(slash + 1) : location;
+    }
+
+    // 저장소 파일 Resource
+    // pending 은 load 에서 이미 연 스트림으로 첫 getInputStream 에 그대로 넘기고, 이후 호출은 새로 엶
+    // 끝내 넘기지 못한 pending 은 요청 종료 시 releasePending 으로 닫음
+    private static final class StoredFileResource extends AbstractResource {
+
+        private final FileStorageService storage;
+        private final StorageEngine engine;
+        private final String location;
+        private final String fileName;
+        private final long size;
+        private final String contentType;
+        // 임시 URL 응답용 (load 에서 저장소 요청을 하지 않음)
+        private final boolean deferred;
+        private InputStream pending;
+
+        private StoredFileResource(FileStorageService storage, StorageEngine engine, String location, String fileName,
+                                   StoredObject object) {
+            this.storage = storage;
+            this.engine = engine;
+            this.location = location;
+            this.fileName = fileName;
+            this.size = object != null ? object.size() : -1;
+            this.contentType = object != null ? object.contentType() : null;
+            this.pending = object != null ? object.content() : null;
+            this.deferred = object == null;
+        }
+
+        @Override
+        public synchronized InputStream getInputStream() throws IOException {
+            if (pending != null) {
+                InputStream in = pending;
+                pending = null;
+                return in;
+            }
+            return storage.open(location);
+        }
+
+        private synchronized void releasePending() {
+            if (pending == null) {
+                return;
+            }
+            try {
+                pending.close();
+            } catch (IOException e) {
+                log.debug("Failed to close unused storage stream {}: {}", location, e.getMessage());
+            }
+            pending = null;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return false;
+        }
+
+        // 모르면 -1 (Content-Length 없이 응답)
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public long lastModified() {
+            return -1;
+        }
+
+        @Override
+        public String getFilename() {
+            return fileName;
+        }
+
+        @Override
+        public String getDescription() {
+            return engine.name() + " file [" + location + "]";
+        }
+    }
+
+    // 스트림을 닫을 때 읽은 바이트 수를 기록
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final DistributionSummary summary;
+        private long count;
+        private boolean closed;
+
+        private CountingInputStream(InputStream in, DistributionSummary summary) {
+            super(in);
+            this.summary = summary;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            int n = super.read(buffer, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                summary.record(count);
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.starter.service;
+
+import com.starter.domain.JobLock;
+import com.starter.repository.JobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 여러 서버에서 같은 예약 작업이 동시에 돌지 않도록 하는 임대(lease) 잠금
+// job_locks 행을 SELECT ... FOR UPDATE 로 잠근 짧은 트랜잭션에서 locked_until 을 확인/갱신하고 바로 커밋
+// 작업 중에는 트랜잭션을 잡지 않으며, 긴 작업은 청크마다 extend 로 임대를 늘리고 서버가 죽으면 locked_until 이 지나 다른 서버가 이어받음
+// 해제 시 획득 후 minHold 까지는 잠금을 유지해, 서버 간 시계 차이로 같은 cron 회차를 다른 서버가 다시 실행하지 않게 함
+@Service
+@Slf4j
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    // 같은 호스트에서 여러 프로세스가 떠도 구분되도록 pid@host 뒤에 임의 값
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    public JobLockService(JobLockRepository jobLockRepository, TransactionTemplate transactionTemplate, Clock clock) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    // 잠금이 비어 있거나 임대가 끝났으면 획득
+    public boolean tryLock(String jobName, Duration lease) {
+        return acquire(jobName, lease, false);
+    }
+
+    // 내가 잡고 있는 잠금의 임대 연장 (false 면 임대가 끝나 다른 서버가 가져간 것이므로 작업 중단)
+    public boolean extend(String jobName, Duration lease) {
+        return acquire(jobName, lease, true);
+    }
+
+    public void unlock(String jobName, Duration minHold) {
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.findByJobNameForUpdate(jobName)
+                .filter(lock -> owner.equals(lock.getLockedBy()))
+                .ifPresent(lock -> {
+                    LocalDateTime now = LocalDateTime.now(clock);
+                    LocalDateTime heldUntil = lock.getLockedAt().plus(minHold);
+                    lock.setLockedUntil(heldUntil.isAfter(now) ? heldUntil : now);
+                }));
+    }
+
+    private boolean acquire(String jobName, Duration lease, boolean renew) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now(clock);
+                JobLock lock = jobLockRepository.findByJobNameForUpdate(jobName).orElse(null);
+                if (lock == null) {
+                    if (renew) {
+                        return false;
+                    }
+                    lock = new JobLock();
+                    lock.setJobName(jobName);
+                } else if (renew ? !owner.equals(lock.getLockedBy()) : lock.getLockedUntil().isAfter(now)) {
+                    return false;
+                }
+                lock.setLockedUntil(now.plus(lease));
+                if (!renew) {
+                    lock.setLockedAt(now);
+                }
+                lock.setLockedBy(owner);
+                jobLockRepository.saveAndFlush(lock);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 처음 실행될 때 다른 서버가 같은 행을 먼저 만든 경우
+            log.debug("Job lock {} was created concurrently by another instance", jobName);
+            return false;
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.starter.domain.Loan;
 import com.starter.domain.User;
 import com.starter.dto.request.LoanCreateRequest;
 import com.starter.dto.response.LoanResponse;
+import com.starter.enums.LoanType;
 import com.starter.enums.RepaymentType;
 import com.starter.repository.LoanRepository;
 import com.starter.repository.UserRepository;
+import com.starter.utils.Money;
+import com.starter.utils.MoneyAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -14,7 +17,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
@@ -29,6 +31,7 @@ public class LoanService {
 
     private final LoanRepository loanRepository;
     private final UserRepository userRepository;
+    private final UserDataVersionService userDataVersionService;
 
     public List<LoanResponse> getAllLoans(Long userId) {
         List<Loan> loans = loanRepository.findByUserId(userId);
@@ -45,39 +48,28 @@ public class LoanService {
     public Map<String, Object> getLoanSummary(Long userId) {
         List<Loan> loans = loanRepository.findByUserId(userId);
 
-        // 총 대출 원금
-        BigDecimal totalPrincipal = loans.stream()
-                .map(Loan::getPrincipalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 총 잔여 원금
-        BigDecimal totalRemaining = loans.stream()
-                .map(l -> l.getRemainingAmount() != null ? l.getRemainingAmount() : l.getPrincipalAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 월 총 상환액
-        BigDecimal totalMonthlyPayment = loans.stream()
-                .map(l -> l.getMonthlyPayment() != null ? l.getMonthlyPayment() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 월 총 이자
-        BigDecimal totalMonthlyInterest = loans.stream()
-                .map(this::calculateMonthlyInterest)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 유형별 대출 금액
-        Map<String, BigDecimal> byType = new HashMap<>();
+        // 원 단위 long 으로 합산: 총 대출 원금, 총 잔여 원금, 월 총 상환액, 월 총 이자
+        long totalPrincipal = 0L;
+        long totalRemaining = 0L;
+        long totalMonthlyPayment = 0L;
+        long totalMonthlyInterest = 0L;
+        // 유형별 대출 금액 (잔여 원금 기준)
+        MoneyAccumulator<LoanType> byType = new MoneyAccumulator<>(LoanType.class, 1);
         for (Loan loan : loans) {
-            BigDecimal amount = loan.getRemainingAmount() != null ? loan.getRemainingAmount() : loan.getPrincipalAmount();
-            byType.merge(loan.getType().name(), amount, BigDecimal::add);
+            long remaining = Money.of(loan.getRemainingAmount() != null ? loan.getRemainingAmount() : loan.getPrincipalAmount());
+            totalPrincipal = Money.add(totalPrincipal, Money.of(loan.getPrincipalAmount()));
+            totalRemaining = Money.add(totalRemaining, remaining);
+            totalMonthlyPayment = Money.add(totalMonthlyPayment, Money.of(loan.getMonthlyPayment()));
+            totalMonthlyInterest = Money.add(totalMonthlyInterest, calculateMonthlyInterestAmount(loan));
+            byType.add(loan.getType(), 0, remaining);
         }
 
         Map<String, Object> summary = new HashMap<>();
-        summary.put("totalPrincipal", totalPrincipal);
-        summary.put("totalRemaining", totalRemaining);
-        summary.put("totalMonthlyPayment", totalMonthlyPayment);
-        summary.put("totalMonthlyInterest", totalMonthlyInterest);
-        summary.put("byType", byType);
+        summary.put("totalPrincipal", Money.toBigDecimal(totalPrincipal));
+        summary.put("totalRemaining", Money.toBigDecimal(totalRemaining));
+        summary.put("totalMonthlyPayment", Money.toBigDecimal(totalMonthlyPayment));
+        summary.put("totalMonthlyInterest", Money.toBigDecimal(totalMonthlyInterest));
+        summary.put("byType", byType.toBigDecimalMap(0));
         summary.put("loanCount", loans.size());
         summary.put("loans", loans.stream().map(this::toResponse).collect(Collectors.toList()));
 
@@ -86,6 +78,7 @@ public class LoanService {
 
     @Transactional
     public LoanResponse createLoan(Long userId, LoanCreateRequest request) {
+        userDataVersionService.bump(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
@@ -111,6 +104,7 @@ public class LoanService {
 
     @Transactional
     public LoanResponse updateLoan(Long userId, Long loanId, LoanCreateRequest request) {
+        userDataVersionService.bump(userId);
         Loan loan = getLoanAndVerifyOwner(userId, loanId);
 
         loan.setName(request.getName());
@@ -132,6 +126,7 @@ public class LoanService {
 
     @Transactional
     public void deleteLoan(Long userId, Long loanId) {
+        userDataVersionService.bump(userId);
         Loan loan = getLoanAndVerifyOwner(userId, loanId);
         loanRepository.delete(loan);
     }
@@ -143,23 +138,23 @@ public class LoanService {
     }
 
     private Loan getLoanAndVerifyOwner(Long userId, Long loanId) {
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
-
-        if (!loan.getUser().getId().equals(userId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
-        }
-        return loan;
+        return loanRepository.findByIdAndUserId(loanId, userId)
+                .orElseThrow(() -> loanRepository.existsById(loanId)
+                        ? new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
     }
 
-    private BigDecimal calculateMonthlyInterest(Loan loan) {
+    // 월 이자 = 원금 * 연이율 / 12 / 100 (연이율은 소수 둘째 자리까지이므로 원금 * 연이율*100 / 120000)
+    private long calculateMonthlyInterestAmount(Loan loan) {
         BigDecimal principal = loan.getRemainingAmount() != null ? loan.getRemainingAmount() : loan.getPrincipalAmount();
         if (principal == null || loan.getInterestRate() == null) {
-            return BigDecimal.ZERO;
+            return 0L;
         }
-        // 월 이자 = 원금 * 연이율 / 12 / 100
-        return principal.multiply(loan.getInterestRate())
-                .divide(BigDecimal.valueOf(1200), 0, RoundingMode.HALF_UP);
+        return Money.mulDivHalfUp(Money.of(principal), Money.unscaled(loan.getInterestRate(), 2), 120_000L);
+    }
+
+    private BigDecimal calculateMonthlyInterest(Loan loan) {
+        return Money.toBigDecimal(calculateMonthlyInterestAmount(loan));
     }
 
     private Integer calculateRemainingMonths(Loan loan) {
@@ -178,8 +173,7 @@ public class LoanService {
         if (remainingMonths == null || remainingMonths <= 0) {
             return BigDecimal.ZERO;
         }
-        BigDecimal monthlyInterest = calculateMonthlyInterest(loan);
-        return monthlyInterest.multiply(BigDecimal.valueOf(remainingMonths));
+        return Money.toBigDecimal(Money.multiply(calculateMonthlyInterestAmount(loan), remainingMonths));
     }
 
     private LoanResponse toResponse(Loan loan) {
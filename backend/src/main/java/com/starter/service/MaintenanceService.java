@@ -5,22 +5,14 @@ import com.starter.domain.Maintenance;
 import com.starter.dto.request.MaintenanceCreateRequest;
 import com.starter.dto.response.MaintenanceResponse;
 import com.starter.enums.MaintenanceStatus;
-import com.starter.repository.ContractRepository;
 import com.starter.repository.MaintenanceRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -33,30 +25,36 @@ import java.util.stream.Collectors;
 public class MaintenanceService {
 
     private final MaintenanceRepository maintenanceRepository;
-    private final ContractRepository contractRepository;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    private final ContractOwnershipService contractOwnershipService;
+    private final UserDataVersionService userDataVersionService;
+    private final FileStorageService fileStorageService;
+    private final FileReclamationService fileReclamationService;
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(".pdf", ".jpg", ".jpeg", ".png");
 
     public List<MaintenanceResponse> getMaintenancesByContract(Long userId, Long contractId) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
-        return maintenanceRepository.findByContractIdOrderByCreatedAtDesc(contract.getId()).stream()
+        contractOwnershipService.verifyOwner(userId, contractId);
+        return getMaintenancesOfVerifiedContract(contractId);
+    }
+
+    // 소유권 확인이 끝난 계약용 (워크스페이스 조회)
+    public List<MaintenanceResponse> getMaintenancesOfVerifiedContract(Long contractId) {
+        return maintenanceRepository.findByContractIdOrderByCreatedAtDesc(contractId).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     public List<MaintenanceResponse> getMaintenancesByContractAndStatus(Long userId, Long contractId, MaintenanceStatus status) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
-        return maintenanceRepository.findByContractIdAndStatusOrderByCreatedAtDesc(contract.getId(), status).stream()
+        contractOwnershipService.verifyOwner(userId, contractId);
+        return maintenanceRepository.findByContractIdAndStatusOrderByCreatedAtDesc(contractId, status).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public MaintenanceResponse createMaintenance(Long userId, Long contractId, MaintenanceCreateRequest request) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
+        userDataVersionService.bump(userId);
+        Contract contract = contractOwnershipService.getContractReference(userId, contractId);
 
         Maintenance maintenance = new Maintenance();
         maintenance.setContract(contract);
@@ -72,6 +70,7 @@ public class MaintenanceService {
 
     @Transactional
     public MaintenanceResponse updateMaintenance(Long userId, Long maintenanceId, MaintenanceCreateRequest request) {
+        userDataVersionService.bump(userId);
         Maintenance maintenance = getMaintenanceAndVerifyOwner(userId, maintenanceId);
         maintenance.setTitle(request.getTitle());
         maintenance.setCategory(request.getCategory());
@@ -83,6 +82,7 @@ public class MaintenanceService {
 
     @Transactional
     public MaintenanceResponse updateStatus(Long userId, Long maintenanceId, MaintenanceStatus status) {
+        userDataVersionService.bump(userId);
         Maintenance maintenance = getMaintenanceAndVerifyOwner(userId, maintenanceId);
         maintenance.setStatus(status);
         if (status == MaintenanceStatus.COMPLETED) {
@@ -95,17 +95,15 @@ public class MaintenanceService {
 
     @Transactional
     public void deleteMaintenance(Long userId, Long maintenanceId) {
+        userDataVersionService.bump(userId);
         Maintenance maintenance = getMaintenanceAndVerifyOwner(userId, maintenanceId);
-        if (maintenance.getFilePath() != null && !maintenance.getFilePath().isBlank()) {
-            try {
-                Files.deleteIfExists(Paths.get(maintenance.getFilePath()));
-            } catch (IOException ignored) {}
-        }
+        reclaimStoredFile(maintenance.getFilePath());
         maintenanceRepository.delete(maintenance);
     }
 
     @Transactional
     public MaintenanceResponse uploadFile(Long userId, Long maintenanceId, MultipartFile file) {
+        userDataVersionService.bump(userId);
         Maintenance maintenance = getMaintenanceAndVerifyOwner(userId, maintenanceId);
 
         String originalName = file.getOriginalFilename();
@@ -119,18 +117,11 @@ public class MaintenanceService {
         }
 
         try {
-            Path dir = Paths.get(uploadDir, "maintenances", maintenanceId.toString());
-            Files.createDirectories(dir);
-
-            if (maintenance.getFilePath() != null && !maintenance.getFilePath().isBlank()) {
-                Files.deleteIfExists(Paths.get(maintenance.getFilePath()));
-            }
-
             String storedName = UUID.randomUUID() + ext;
-            Path filePath = dir.resolve(storedName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            String filePath = fileStorageService.store("maintenances/" + maintenanceId + "/" + storedName, file);
+            reclaimStoredFile(maintenance.getFilePath());
 
-            maintenance.setFilePath(filePath.toString());
+            maintenance.setFilePath(filePath);
             maintenance.setFileName(originalName);
             return toResponse(maintenanceRepository.save(maintenance));
         } catch (IOException e) {
@@ -143,47 +134,31 @@ public class MaintenanceService {
         if (maintenance.getFilePath() == null || maintenance.getFilePath().isBlank()) {
             throw new IllegalArgumentException("첨부된 파일이 없습니다.");
         }
-        try {
-            Path filePath = Paths.get(maintenance.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-            if (!resource.exists()) {
-                throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
-            }
-            return resource;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("파일 경로 오류", e);
-        }
+        return fileStorageService.load(maintenance.getFilePath(), maintenance.getFileName());
     }
 
     @Transactional
     public MaintenanceResponse deleteFile(Long userId, Long maintenanceId) {
+        userDataVersionService.bump(userId);
         Maintenance maintenance = getMaintenanceAndVerifyOwner(userId, maintenanceId);
-        if (maintenance.getFilePath() != null && !maintenance.getFilePath().isBlank()) {
-            try {
-                Files.deleteIfExists(Paths.get(maintenance.getFilePath()));
-            } catch (IOException ignored) {}
-        }
+        reclaimStoredFile(maintenance.getFilePath());
         maintenance.setFilePath(null);
         maintenance.setFileName(null);
         return toResponse(maintenanceRepository.save(maintenance));
     }
 
-    private Contract getContractAndVerifyOwner(Long userId, Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
+    // 커밋 이후 삭제 (롤백되면 파일 유지)
+    private void reclaimStoredFile(String filePath) {
+        if (filePath != null && !filePath.isBlank()) {
+            fileReclamationService.reclaimAfterCommit(List.of(filePath));
         }
-        return contract;
     }
 
     private Maintenance getMaintenanceAndVerifyOwner(Long userId, Long maintenanceId) {
-        Maintenance maintenance = maintenanceRepository.findById(maintenanceId)
-                .orElseThrow(() -> new IllegalArgumentException("Maintenance not found with id: " + maintenanceId));
-        if (!maintenance.getContract().getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
-        return maintenance;
+        return maintenanceRepository.findByIdAndOwnerId(maintenanceId, userId)
+                .orElseThrow(() -> maintenanceRepository.existsById(maintenanceId)
+                        ? new IllegalArgumentException("Access denied")
+                        : new IllegalArgumentException("Maintenance not found with id: " + maintenanceId));
     }
 
     private MaintenanceResponse toResponse(Maintenance maintenance) {
@@ -0,0 +1,335 @@
+package com.starter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starter.domain.Payment;
+import com.starter.domain.User;
+import com.starter.dto.request.PaymentCreateRequest;
+import com.starter.dto.response.PaymentImportResponse;
+import com.starter.enums.PaymentCategory;
+import com.starter.enums.PaymentStatus;
+import com.starter.repository.PaymentJdbcRepository;
+import com.starter.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 납부 내역 대량 가져오기 (CSV / NDJSON)
+// 한 줄씩 읽어 검증하고, batch-size 단위로 JDBC 배치 삽입 + 롤업 반영을 한 트랜잭션으로 처리
+// max-rows 를 넘으면 거기서 멈추고 (앞 배치는 이미 커밋됨) 처리하지 않은 첫 줄 번호와 함께 부분 결과를 반환
+// 배치 저장이 DB 오류로 실패해도 500 대신 마지막으로 커밋된 줄 번호와 함께 부분 결과를 반환
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final UserRepository userRepository;
+    private final PaymentJdbcRepository paymentJdbcRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserDataVersionService userDataVersionService;
+    private final Clock clock;
+
+    @Value("${payment.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${payment.import.max-rows:20000}")
+    private int maxRows;
+
+    public PaymentImportResponse importCsv(Long userId, InputStream body) {
+        return importRows(userId, body, true);
+    }
+
+    public PaymentImportResponse importNdjson(Long userId, InputStream body) {
+        return importRows(userId, body, false);
+    }
+
+    private PaymentImportResponse importRows(Long userId, InputStream body, boolean csv) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+
+        PaymentImportResponse response = new PaymentImportResponse();
+        List<Payment> batch = new ArrayList<>(batchSize);
+        LocalDate today = LocalDate.now(clock);
+        int totalRows = 0;
+        int importedRows = 0;
+        int failedRows = 0;
+        int lineNumber = 0;
+        // 현재 배치의 첫 줄과 마지막 줄
+        int batchFirstLine = 0;
+        int batchLastLine = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // UTF-8 BOM 제거 (엑셀 저장 CSV)
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseCsvHeader(line);
+                    continue;
+                }
+                if (totalRows >= maxRows) {
+                    response.setTruncated(true);
+                    response.setFirstRejectedLine(lineNumber);
+                    break;
+                }
+                totalRows++;
+
+                try {
+                    PaymentCreateRequest request = csv ? parseCsvRow(header, line) : parseJsonRow(line);
+                    batch.add(toPayment(user, request, today));
+                } catch (IllegalArgumentException e) {
+                    failedRows++;
+                    addError(response, lineNumber, e.getMessage());
+                    continue;
+                }
+                if (batch.size() == 1) {
+                    batchFirstLine = lineNumber;
+                }
+                batchLastLine = lineNumber;
+
+                if (batch.size() >= batchSize) {
+                    importedRows += flush(userId, batch);
+                    response.setLastCommittedLine(batchLastLine);
+                }
+            }
+            if (csv && header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is missing");
+            }
+            if (!batch.isEmpty()) {
+                importedRows += flush(userId, batch);
+                response.setLastCommittedLine(batchLastLine);
+            }
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Failed to read import body", e);
+        } catch (DataAccessException | TransactionException e) {
+            // 실패한 배치만 롤백됨: 앞 배치는 유지하고 lastCommittedLine 다음 줄부터 다시 보내면 이어서 가져옴
+            log.warn("Payment import batch failed userId={} lines={}-{}: {}", userId, batchFirstLine, batchLastLine, e.getMessage());
+            failedRows += batch.size();
+            response.setAborted(true);
+            addError(response, batchFirstLine, "Failed to save rows " + batchFirstLine + "-" + batchLastLine
+                    + ", import stopped");
+        }
+
+        response.setTotalRows(totalRows);
+        response.setImportedRows(importedRows);
+        response.setFailedRows(failedRows);
+        log.info("Payment import userId={} total={} imported={} failed={} truncatedAt={} lastCommittedLine={}",
+                userId, totalRows, importedRows, failedRows, response.getFirstRejectedLine(), response.getLastCommittedLine());
+        return response;
+    }
+
+    private int flush(Long userId, List<Payment> batch) {
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            paymentJdbcRepository.batchInsert(batch);
+            paymentRollupService.addAll(userId, batch);
+            userDataVersionService.bump(userId);
+        });
+        batch.clear();
+        return size;
+    }
+
+    private Payment toPayment(User user, PaymentCreateRequest request, LocalDate today) {
+        Set<ConstraintViolation<PaymentCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        boolean recurring = Boolean.TRUE.equals(request.getIsRecurring());
+        if (!recurring && request.getDueDate() == null) {
+            throw new IllegalArgumentException("Due date is required for non-recurring payments");
+        }
+        if (request.getPaymentDay() != null && (request.getPaymentDay() < 1 || request.getPaymentDay() > 31)) {
+            throw new IllegalArgumentException("Payment day must be between 1 and 31");
+        }
+
+        PaymentStatus status = PaymentStatus.UPCOMING;
+        if (request.getStatus() != null && !request.getStatus().isBlank()) {
+            try {
+                status = PaymentStatus.valueOf(request.getStatus().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + request.getStatus());
+            }
+        }
+
+        return Payment.builder()
+                .user(user)
+                .name(request.getName())
+                .category(request.getCategory())
+                .amount(request.getAmount())
+                .paymentDay(request.getPaymentDay() != null ? request.getPaymentDay() :
+                           (request.getDueDate() != null ? request.getDueDate().getDayOfMonth() : null))
+                .isRecurring(recurring)
+                .autoPay(Boolean.TRUE.equals(request.getAutoPay()))
+                .dueDate(request.getDueDate())
+                .status(PaymentService.resolveUnpaidStatus(status, request.getDueDate(), today))
+                .sourceType(request.getSourceType())
+                .sourceId(request.getSourceId())
+                .build();
+    }
+
+    private void addError(PaymentImportResponse response, int line, String message) {
+        if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+            response.getErrors().add(new PaymentImportResponse.RowError(line, message));
+        } else {
+            response.setErrorsTruncated(true);
+        }
+    }
+
+    private PaymentCreateRequest parseJsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, PaymentCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // 헤더 이름(대소문자 무시) -> 컬럼 위치
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("name", "category", "amount")) {
+            if (!header.containsKey(required)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain column: " + required);
+            }
+        }
+        return header;
+    }
+
+    private PaymentCreateRequest parseCsvRow(Map<String, Integer> header, String line) {
+        List<String> values = splitCsvLine(line);
+        PaymentCreateRequest request = new PaymentCreateRequest();
+        request.setName(csvValue(header, values, "name"));
+
+        String category = csvValue(header, values, "category");
+        if (category != null) {
+            try {
+                request.setCategory(PaymentCategory.valueOf(category.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid category: " + category);
+            }
+        }
+
+        String amount = csvValue(header, values, "amount");
+        if (amount != null) {
+            try {
+                request.setAmount(new BigDecimal(amount.replace(",", "")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid amount: " + amount);
+            }
+        }
+
+        String paymentDay = csvValue(header, values, "paymentday");
+        if (paymentDay != null) {
+            try {
+                request.setPaymentDay(Integer.parseInt(paymentDay));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid paymentDay: " + paymentDay);
+            }
+        }
+
+        String dueDate = csvValue(header, values, "duedate");
+        if (dueDate != null) {
+            try {
+                request.setDueDate(LocalDate.parse(dueDate));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid dueDate: " + dueDate);
+            }
+        }
+
+        request.setIsRecurring(parseCsvBoolean(csvValue(header, values, "isrecurring")));
+        request.setAutoPay(parseCsvBoolean(csvValue(header, values, "autopay")));
+        request.setStatus(csvValue(header, values, "status"));
+        return request;
+    }
+
+    private String csvValue(Map<String, Integer> header, List<String> values, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Boolean parseCsvBoolean(String value) {
+        if (value == null) {
+            return false;
+        }
+        String normalized = value.toLowerCase(Locale.ROOT);
+        return normalized.equals("true") || normalized.equals("1") || normalized.equals("y") || normalized.equals("yes");
+    }
+
+    // RFC 4180 형식의 한 줄 분리 (따옴표 안의 쉼표, "" 이스케이프 지원, 줄바꿈 포함 필드는 미지원)
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,173 @@
+package com.starter.service;
+
+import com.starter.domain.Payment;
+import com.starter.domain.PaymentMonthlyRollup;
+import com.starter.enums.PaymentCategory;
+import com.starter.enums.PaymentStatus;
+import com.starter.repository.PaymentMonthlyRollupRepository;
+import com.starter.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PaymentRollupService {
+
+    private final PaymentMonthlyRollupRepository rollupRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 저장된 납부 내역을 롤업에 반영 (호출자 트랜잭션에 참여)
+    @Transactional
+    public void add(Payment payment) {
+        apply(payment, BigDecimal.ONE);
+    }
+
+    // 변경/삭제 전 납부 내역을 롤업에서 제거 (호출자 트랜잭션에 참여)
+    @Transactional
+    public void remove(Payment payment) {
+        apply(payment, BigDecimal.ONE.negate());
+    }
+
+    @Transactional
+    public void add(Long userId, LocalDate dueDate, PaymentCategory category, BigDecimal amount, PaymentStatus status) {
+        apply(userId, dueDate, category, amount, status, BigDecimal.ONE);
+    }
+
+    // 여러 건을 (월, 카테고리) 단위로 합산해 키마다 한 번만 반영 (대량 가져오기용)
+    @Transactional
+    public void addAll(Long userId, Collection<Payment> payments) {
+        applyAll(userId, payments, false);
+    }
+
+    // 삭제 전 여러 건을 (월, 카테고리) 단위로 합산해 한 번에 제거 (일괄 삭제용)
+    @Transactional
+    public void removeAll(Long userId, Collection<Payment> payments) {
+        applyAll(userId, payments, true);
+    }
+
+    // 상태만 바뀐 납부 내역의 납부액/예정액 이동분만 반영 (일괄 상태 변경용)
+    @Transactional
+    public void applyStatusChange(Long userId, Collection<Payment> payments, PaymentStatus newStatus) {
+        Map<YearMonth, Map<PaymentCategory, BigDecimal>> paidDeltas = new HashMap<>();
+        for (Payment payment : payments) {
+            if (payment.getDueDate() == null || payment.getCategory() == null || payment.getAmount() == null) {
+                continue;
+            }
+            boolean wasPaid = payment.getStatus() == PaymentStatus.PAID;
+            boolean isPaid = newStatus == PaymentStatus.PAID;
+            if (wasPaid == isPaid) {
+                continue;
+            }
+            paidDeltas.computeIfAbsent(YearMonth.from(payment.getDueDate()), ym -> new EnumMap<>(PaymentCategory.class))
+                    .merge(payment.getCategory(), isPaid ? payment.getAmount() : payment.getAmount().negate(), BigDecimal::add);
+        }
+        paidDeltas.forEach((ym, byCategory) -> byCategory.forEach((category, paid) -> {
+            if (paid.signum() != 0) {
+                rollupRepository.upsertDelta(userId, ym.toString(), category.name(), BigDecimal.ZERO, paid, paid.negate());
+            }
+        }));
+    }
+
+    public Map<YearMonth, Map<PaymentCategory, PaymentMonthlyRollup>> getRollups(Long userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, Map<PaymentCategory, PaymentMonthlyRollup>> result = new HashMap<>();
+        for (PaymentMonthlyRollup rollup : rollupRepository.findByUserIdAndYearMonthBetween(userId, from.toString(), to.toString())) {
+            result.computeIfAbsent(YearMonth.parse(rollup.getYearMonth()), ym -> new EnumMap<>(PaymentCategory.class))
+                    .put(rollup.getCategory(), rollup);
+        }
+        return result;
+    }
+
+    // payments 테이블 기준으로 사용자 롤업 재생성 (드리프트 복구)
+    // 먼저 사용자 롤업 행을 잠가 진행 중인 납부 변경이 커밋된 뒤 합산하고, 이후 변경은 재생성 결과 위에 누적되게 함
+    // 다시 채울 때도 upsertDelta 를 써서 잠금 이후 새로 생긴 키와 충돌하지 않고 합쳐지게 함
+    @Transactional
+    public int rebuild(Long userId) {
+        rollupRepository.lockByUserId(userId);
+        rollupRepository.deleteByUserId(userId);
+        List<PaymentRepository.MonthlyCategoryTotal> totals = paymentRepository.sumMonthlyTotalsByUserId(userId);
+        for (PaymentRepository.MonthlyCategoryTotal total : totals) {
+            BigDecimal totalAmount = total.getTotalAmount() != null ? total.getTotalAmount() : BigDecimal.ZERO;
+            BigDecimal paidAmount = total.getPaidAmount() != null ? total.getPaidAmount() : BigDecimal.ZERO;
+            rollupRepository.upsertDelta(
+                    userId,
+                    YearMonth.of(total.getYear(), total.getMonth()).toString(),
+                    total.getCategory().name(),
+                    totalAmount,
+                    paidAmount,
+                    totalAmount.subtract(paidAmount)
+            );
+        }
+        return totals.size();
+    }
+
+    // 사용자별로 짧은 트랜잭션을 나눠 전체 롤업 재생성
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        List<Long> userIds = paymentRepository.findDistinctUserIds();
+        for (Long userId : userIds) {
+            Integer rows = transactionTemplate.execute(status -> rebuild(userId));
+            log.info("Payment rollup rebuilt userId={} rows={}", userId, rows);
+        }
+        return userIds.size();
+    }
+
+    private void applyAll(Long userId, Collection<Payment> payments, boolean negate) {
+        Map<YearMonth, Map<PaymentCategory, BigDecimal[]>> deltas = new HashMap<>();
+        for (Payment payment : payments) {
+            if (payment.getDueDate() == null || payment.getCategory() == null || payment.getAmount() == null) {
+                continue;
+            }
+            BigDecimal amount = negate ? payment.getAmount().negate() : payment.getAmount();
+            BigDecimal[] delta = deltas.computeIfAbsent(YearMonth.from(payment.getDueDate()), ym -> new EnumMap<>(PaymentCategory.class))
+                    .computeIfAbsent(payment.getCategory(), category -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            delta[0] = delta[0].add(amount);
+            if (payment.getStatus() == PaymentStatus.PAID) {
+                delta[1] = delta[1].add(amount);
+            }
+        }
+        deltas.forEach((ym, byCategory) -> byCategory.forEach((category, delta) ->
+                rollupRepository.upsertDelta(userId, ym.toString(), category.name(),
+                        delta[0], delta[1], delta[0].subtract(delta[1]))));
+    }
+
+    private void apply(Payment payment, BigDecimal sign) {
+        if (payment.getUser() == null) {
+            return;
+        }
+        apply(payment.getUser().getId(), payment.getDueDate(), payment.getCategory(), payment.getAmount(), payment.getStatus(), sign);
+    }
+
+    private void apply(Long userId, LocalDate dueDate, PaymentCategory category, BigDecimal amount,
+                       PaymentStatus status, BigDecimal sign) {
+        // 예정일 없는 정기 납부 템플릿은 조회 시점에 가상 항목으로 계산
+        if (userId == null || dueDate == null || category == null || amount == null) {
+            return;
+        }
+        BigDecimal total = amount.multiply(sign);
+        BigDecimal paid = status == PaymentStatus.PAID ? total : BigDecimal.ZERO;
+        rollupRepository.upsertDelta(
+                userId,
+                YearMonth.from(dueDate).toString(),
+                category.name(),
+                total,
+                paid,
+                total.subtract(paid)
+        );
+    }
+}
@@ -2,17 +2,27 @@ package com.starter.service;
 
 import com.starter.domain.Contract;
 import com.starter.domain.Payment;
+import com.starter.domain.PaymentMonthlyRollup;
 import com.starter.domain.User;
+import com.starter.dto.request.PaymentBulkStatusRequest;
 import com.starter.dto.request.PaymentCreateRequest;
+import com.starter.dto.response.PaymentBulkStatusResponse;
 import com.starter.dto.response.PaymentCalendarResponse;
 import com.starter.dto.response.PaymentOverviewResponse;
+import com.starter.dto.response.PaymentPageResponse;
 import com.starter.dto.response.PaymentResponse;
+import com.starter.enums.PaymentCategory;
 import com.starter.enums.PaymentStatus;
 import com.starter.repository.ContractRepository;
 import com.starter.repository.PaymentRepository;
 import com.starter.repository.UserRepository;
+import com.starter.utils.Money;
+import com.starter.utils.MoneyAccumulator;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,16 +30,25 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Service
 @RequiredArgsConstructor
@@ -37,29 +56,50 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PaymentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 내보내기 스트리밍 조회 (호출자 트랜잭션 안에서 소비하고 닫아야 함)
+    private static final String EXPORT_QUERY = "select p from Payment p where p.user.id = :userId " +
+            "and (:status is null or p.status = :status) order by p.dueDate, p.id";
+
+    // 월별 카테고리 합계 슬롯
+    private static final int TOTAL = 0;
+    private static final int PAID = 1;
+
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final ContractRepository contractRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final EntityManager entityManager;
+    private final UserDataVersionService userDataVersionService;
+    // 연체 판정의 "오늘" (OverduePaymentJob 과 같은 시간대)
+    private final Clock clock;
+
+    @Value("${payment.export.fetch-size:500}")
+    private int exportFetchSize;
 
     @Transactional(readOnly = true)
     public PaymentCalendarResponse getMonthlyPayments(Long userId, int year, int month) {
         long startedAt = System.nanoTime();
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         List<PaymentResponse> monthlyPayments = buildMonthlyPaymentResponses(userId, year, month, today);
 
-        // 금액 계산
-        BigDecimal totalAmount = monthlyPayments.stream()
-            .map(PaymentResponse::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal paidAmount = monthlyPayments.stream()
-            .filter(p -> p.getStatus() == PaymentStatus.PAID)
-            .map(PaymentResponse::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal upcomingAmount = totalAmount.subtract(paidAmount);
+        // 금액 계산 (원 단위 long)
+        long totalAmount = 0L;
+        long paidAmount = 0L;
+        for (PaymentResponse payment : monthlyPayments) {
+            long amount = Money.of(payment.getAmount());
+            totalAmount = Money.add(totalAmount, amount);
+            if (payment.getStatus() == PaymentStatus.PAID) {
+                paidAmount = Money.add(paidAmount, amount);
+            }
+        }
 
-        PaymentCalendarResponse response = new PaymentCalendarResponse(year, month, totalAmount, paidAmount, upcomingAmount, monthlyPayments);
+        PaymentCalendarResponse response = new PaymentCalendarResponse(year, month,
+                Money.toBigDecimal(totalAmount),
+                Money.toBigDecimal(paidAmount),
+                Money.toBigDecimal(Money.subtract(totalAmount, paidAmount)),
+                monthlyPayments);
         long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
         if (elapsedMs >= 300) {
             log.warn("Slow payment calendar query userId={} year={} month={} elapsedMs={} itemCount={}",
@@ -73,6 +113,7 @@ public class PaymentService {
 
     @Transactional
     public Long createRecurringPayment(Long userId, PaymentCreateRequest request) {
+        userDataVersionService.bump(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
@@ -89,53 +130,43 @@ public class PaymentService {
                 .build();
 
         Payment savedPayment = paymentRepository.save(payment);
+        paymentRollupService.add(savedPayment);
         return savedPayment.getId();
     }
 
     public PaymentOverviewResponse getOverview(Long userId, int year, int month) {
-        List<PaymentResponse> currentMonthPayments = buildMonthlyPaymentResponses(userId, year, month);
-        BigDecimal currentMonthTotal = currentMonthPayments.stream()
-                .map(PaymentResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal currentMonthPaid = currentMonthPayments.stream()
-                .filter(p -> p.getStatus() == PaymentStatus.PAID)
-                .map(PaymentResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal currentMonthUpcoming = currentMonthTotal.subtract(currentMonthPaid);
-
-        LocalDate currentMonthStart = LocalDate.of(year, month, 1);
-        LocalDate currentMonthEnd = currentMonthStart.with(TemporalAdjusters.lastDayOfMonth());
-        LocalDate prevMonth = currentMonthStart.minusMonths(1);
-        List<PaymentResponse> prevMonthPayments = buildMonthlyPaymentResponses(userId, prevMonth.getYear(), prevMonth.getMonthValue());
-        BigDecimal previousMonthTotal = prevMonthPayments.stream()
-                .map(PaymentResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 전월 대비 변화율 계산
+        LocalDate today = LocalDate.now(clock);
+        YearMonth currentMonth = YearMonth.of(year, month);
+        YearMonth prevMonth = currentMonth.minusMonths(1);
+        YearMonth rangeStart = prevMonth.isBefore(YearMonth.of(year, 1)) ? prevMonth : YearMonth.of(year, 1);
+
+        // 금액 집계는 월별 롤업 + 정기 납부 가상 항목으로 계산
+        List<Payment> recurringPayments = paymentRepository.findByUserIdAndIsRecurring(userId, true);
+        Map<YearMonth, MoneyAccumulator<PaymentCategory>> totalsByMonth =
+                buildMonthlyCategoryTotals(userId, rangeStart, currentMonth, recurringPayments, today);
+
+        MoneyAccumulator<PaymentCategory> currentMonthTotals = totalsByMonth.get(currentMonth);
+        long currentMonthTotal = currentMonthTotals.sum(TOTAL);
+        long currentMonthPaid = currentMonthTotals.sum(PAID);
+        long previousMonthTotal = totalsByMonth.get(prevMonth).sum(TOTAL);
+
+        // 전월 대비 변화율 계산 (소수 첫째 자리, HALF_UP)
         BigDecimal monthOverMonthChange = BigDecimal.ZERO;
-        if (previousMonthTotal.compareTo(BigDecimal.ZERO) > 0) {
-            monthOverMonthChange = currentMonthTotal.subtract(previousMonthTotal)
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(previousMonthTotal, 1, RoundingMode.HALF_UP);
+        if (previousMonthTotal > 0) {
+            monthOverMonthChange = Money.toBigDecimal(Money.percentChange(currentMonthTotal, previousMonthTotal, 1), 1);
         }
 
         // 카테고리별 지출
-        Map<String, BigDecimal> categoryBreakdown = new HashMap<>();
-        for (PaymentResponse payment : currentMonthPayments) {
-            String category = payment.getCategory().name();
-            categoryBreakdown.merge(category, payment.getAmount(), BigDecimal::add);
-        }
+        Map<String, BigDecimal> categoryBreakdown = currentMonthTotals.toBigDecimalMap(TOTAL);
 
-        BigDecimal yearToDateTotal = BigDecimal.ZERO;
+        long yearToDateTotal = 0L;
         for (int m = 1; m <= month; m++) {
-            BigDecimal monthlyTotal = buildMonthlyPaymentResponses(userId, year, m).stream()
-                    .map(PaymentResponse::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            yearToDateTotal = yearToDateTotal.add(monthlyTotal);
+            yearToDateTotal = Money.add(yearToDateTotal, totalsByMonth.get(YearMonth.of(year, m)).sum(TOTAL));
         }
 
+        List<PaymentResponse> currentMonthPayments =
+                expandPaymentsByMonth(userId, currentMonth, currentMonth, today, recurringPayments).get(currentMonth);
+
         // 최근 납부 내역 (최근 5건)
         List<PaymentResponse> recentPayments = currentMonthPayments.stream()
                 .sorted((a, b) -> {
@@ -148,66 +179,114 @@ public class PaymentService {
                 .collect(Collectors.toList());
 
         // 계약 정보 기반 월 고정 지출
-        BigDecimal monthlyFixedCost = BigDecimal.ZERO;
+        long monthlyFixedCost = 0L;
         List<Contract> contracts = contractRepository.findByUserId(userId);
         if (!contracts.isEmpty()) {
             Contract contract = contracts.get(0);
-            if (contract.getMonthlyRent() != null) {
-                monthlyFixedCost = monthlyFixedCost.add(contract.getMonthlyRent());
-            }
-            if (contract.getMaintenanceFee() != null) {
-                monthlyFixedCost = monthlyFixedCost.add(contract.getMaintenanceFee());
-            }
+            monthlyFixedCost = Money.add(Money.of(contract.getMonthlyRent()), Money.of(contract.getMaintenanceFee()));
         }
 
         return PaymentOverviewResponse.builder()
                 .year(year)
                 .month(month)
-                .currentMonthTotal(currentMonthTotal)
-                .currentMonthPaid(currentMonthPaid)
-                .currentMonthUpcoming(currentMonthUpcoming)
-                .previousMonthTotal(previousMonthTotal)
+                .currentMonthTotal(Money.toBigDecimal(currentMonthTotal))
+                .currentMonthPaid(Money.toBigDecimal(currentMonthPaid))
+                .currentMonthUpcoming(Money.toBigDecimal(Money.subtract(currentMonthTotal, currentMonthPaid)))
+                .previousMonthTotal(Money.toBigDecimal(previousMonthTotal))
                 .monthOverMonthChange(monthOverMonthChange)
                 .categoryBreakdown(categoryBreakdown)
-                .yearToDateTotal(yearToDateTotal)
+                .yearToDateTotal(Money.toBigDecimal(yearToDateTotal))
                 .recentPayments(recentPayments)
-                .monthlyFixedCost(monthlyFixedCost)
+                .monthlyFixedCost(Money.toBigDecimal(monthlyFixedCost))
                 .build();
     }
 
-    private List<PaymentResponse> buildMonthlyPaymentResponses(Long userId, int year, int month) {
-        return buildMonthlyPaymentResponses(userId, year, month, LocalDate.now());
+    private List<PaymentResponse> buildMonthlyPaymentResponses(Long userId, int year, int month, LocalDate today) {
+        YearMonth target = YearMonth.of(year, month);
+        List<Payment> recurringPayments = paymentRepository.findByUserIdAndIsRecurring(userId, true);
+        return expandPaymentsByMonth(userId, target, target, today, recurringPayments).get(target);
     }
 
-    private List<PaymentResponse> buildMonthlyPaymentResponses(Long userId, int year, int month, LocalDate today) {
-        LocalDate monthStart = LocalDate.of(year, month, 1);
-        LocalDate monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
+    // 월별 카테고리 합계 [총액(TOTAL), 납부액(PAID)]
+    // 예정일이 있는 납부 내역은 롤업에서 읽고, 같은 달에 실제 항목이 없는 정기 납부만 가상으로 더한다
+    private Map<YearMonth, MoneyAccumulator<PaymentCategory>> buildMonthlyCategoryTotals(
+            Long userId, YearMonth from, YearMonth to, List<Payment> recurringPayments, LocalDate today) {
+        Map<YearMonth, Map<PaymentCategory, PaymentMonthlyRollup>> rollups = paymentRollupService.getRollups(userId, from, to);
+
+        Map<YearMonth, Set<String>> existingKeysByMonth = new HashMap<>();
+        if (!recurringPayments.isEmpty()) {
+            for (PaymentRepository.PaymentKeyView key : paymentRepository.findKeysByUserIdAndDueDateBetween(userId, from.atDay(1), to.atEndOfMonth())) {
+                existingKeysByMonth.computeIfAbsent(YearMonth.from(key.getDueDate()), ym -> new HashSet<>())
+                        .add(buildRecurringKey(key.getName(), key.getCategory().name()));
+            }
+        }
 
-        List<Payment> actualPayments = paymentRepository.findByUserIdAndDueDateBetween(userId, monthStart, monthEnd);
-        List<Payment> recurringPayments = paymentRepository.findByUserIdAndIsRecurring(userId, true);
+        Map<YearMonth, MoneyAccumulator<PaymentCategory>> totalsByMonth = new LinkedHashMap<>();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 2);
+            rollups.getOrDefault(ym, Map.of()).forEach((category, rollup) -> {
+                // 모든 항목이 삭제되어 0 이 된 롤업은 제외
+                long total = Money.of(rollup.getTotalAmount());
+                long paid = Money.of(rollup.getPaidAmount());
+                if (total != 0 || paid != 0) {
+                    totals.add(category, TOTAL, total);
+                    totals.add(category, PAID, paid);
+                }
+            });
+
+            Set<String> existingKeys = existingKeysByMonth.getOrDefault(ym, Set.of());
+            for (Payment recurring : recurringPayments) {
+                if (resolvePaymentDay(recurring) == null
+                        || existingKeys.contains(buildRecurringKey(recurring.getName(), recurring.getCategory().name()))) {
+                    continue;
+                }
+                totals.add(recurring.getCategory(), TOTAL, Money.of(recurring.getAmount()));
+            }
+            totalsByMonth.put(ym, totals);
+        }
+        return totalsByMonth;
+    }
+
+    private Integer resolvePaymentDay(Payment payment) {
+        Integer paymentDay = payment.getPaymentDay();
+        if (paymentDay == null && payment.getDueDate() != null) {
+            paymentDay = payment.getDueDate().getDayOfMonth();
+        }
+        return paymentDay;
+    }
 
-        List<PaymentResponse> monthlyPayments = new ArrayList<>();
-        Set<String> existingKeys = new HashSet<>();
+    // [from, to] 구간의 납부 내역을 월별로 전개
+    // 실제 납부 내역과 정기 납부 템플릿을 각각 한 번씩만 조회한 뒤 월별 실제/가상 항목을 한 번에 생성
+    private Map<YearMonth, List<PaymentResponse>> expandPaymentsByMonth(Long userId, YearMonth from, YearMonth to,
+                                                                        LocalDate today, List<Payment> recurringPayments) {
+        List<Payment> actualPayments = paymentRepository.findByUserIdAndDueDateBetween(userId, from.atDay(1), to.atEndOfMonth());
+
+        Map<YearMonth, List<PaymentResponse>> paymentsByMonth = new LinkedHashMap<>();
+        Map<YearMonth, Set<String>> existingKeysByMonth = new HashMap<>();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            paymentsByMonth.put(ym, new ArrayList<>());
+            existingKeysByMonth.put(ym, new HashSet<>());
+        }
 
         for (Payment payment : actualPayments) {
-            PaymentResponse response = toPaymentResponseWithComputedStatus(payment, today);
-            monthlyPayments.add(response);
-            existingKeys.add(buildRecurringKey(payment.getName(), payment.getCategory().name()));
+            YearMonth ym = YearMonth.from(payment.getDueDate());
+            paymentsByMonth.get(ym).add(toPaymentResponseWithComputedStatus(payment, today));
+            existingKeysByMonth.get(ym).add(buildRecurringKey(payment.getName(), payment.getCategory().name()));
         }
 
         for (Payment recurring : recurringPayments) {
-            Integer paymentDay = recurring.getPaymentDay();
-            if (paymentDay == null && recurring.getDueDate() != null) {
-                paymentDay = recurring.getDueDate().getDayOfMonth();
-            }
+            Integer paymentDay = resolvePaymentDay(recurring);
             if (paymentDay == null) continue;
 
-            int adjustedDay = Math.min(paymentDay, monthEnd.getDayOfMonth());
-            LocalDate recurringDueDate = LocalDate.of(year, month, adjustedDay);
-
-            boolean alreadyExists = existingKeys.contains(buildRecurringKey(recurring.getName(), recurring.getCategory().name()));
+            String recurringKey = buildRecurringKey(recurring.getName(), recurring.getCategory().name());
+            for (Map.Entry<YearMonth, List<PaymentResponse>> entry : paymentsByMonth.entrySet()) {
+                YearMonth ym = entry.getKey();
+                if (existingKeysByMonth.get(ym).contains(recurringKey)) {
+                    continue;
+                }
 
-            if (!alreadyExists) {
+                int adjustedDay = Math.min(paymentDay, ym.lengthOfMonth());
+                LocalDate recurringDueDate = ym.atDay(adjustedDay);
                 PaymentStatus status = recurringDueDate.isBefore(today) ? PaymentStatus.OVERDUE : PaymentStatus.UPCOMING;
 
                 PaymentResponse virtualPayment = new PaymentResponse();
@@ -221,11 +300,11 @@ public class PaymentService {
                 virtualPayment.setIsRecurring(true);
                 virtualPayment.setDueDate(recurringDueDate);
                 virtualPayment.setPaidDate(null);
-                monthlyPayments.add(virtualPayment);
+                entry.getValue().add(virtualPayment);
             }
         }
 
-        return monthlyPayments;
+        return paymentsByMonth;
     }
 
     private String buildRecurringKey(String name, String category) {
@@ -244,6 +323,52 @@ public class PaymentService {
                 .collect(Collectors.toList());
     }
 
+    // 키셋 페이지 조회: 예정일 없는 항목을 id 순으로 먼저, 이후 (due_date, id) 순
+    // 커서는 마지막 항목의 "예정일:id" 를 base64url 로 인코딩한 값
+    public PaymentPageResponse getPaymentPage(Long userId, PaymentStatus status, String after, int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be at least 1");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        String[] cursor = decodeCursor(after);
+        LocalDate afterDueDate = cursor[0].isEmpty() ? null : parseCursorDate(cursor[0]);
+        Long afterId = parseCursorId(cursor[1]);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Payment> rows = new ArrayList<>();
+        if (afterDueDate == null) {
+            rows.addAll(paymentRepository.findUndatedPageByUserId(userId, status, afterId,
+                    PageRequest.of(0, pageSize + 1)));
+        }
+        if (rows.size() <= pageSize) {
+            rows.addAll(paymentRepository.findDatedPageByUserId(userId, status, afterDueDate,
+                    afterDueDate != null ? afterId : 0L, PageRequest.of(0, pageSize + 1 - rows.size())));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Payment> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        List<PaymentResponse> payments = page.stream()
+                .map(this::toPaymentResponse)
+                .collect(Collectors.toList());
+        return new PaymentPageResponse(payments, nextCursor, hasNext);
+    }
+
+    // NDJSON 내보내기: 스크롤 조회로 한 건씩 변환하고 영속성 컨텍스트에서 분리해 힙 사용량을 일정하게 유지
+    // fetch size 는 드라이버별 설정 (prod MySQL 은 Integer.MIN_VALUE 로 행 단위 스트리밍, H2 는 음수 불가)
+    public void exportPayments(Long userId, PaymentStatus status, Consumer<PaymentResponse> consumer) {
+        try (Stream<Payment> payments = entityManager.createQuery(EXPORT_QUERY, Payment.class)
+                .setParameter("userId", userId)
+                .setParameter("status", status)
+                .setHint(HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream()) {
+            payments.forEach(payment -> {
+                consumer.accept(toPaymentResponse(payment));
+                entityManager.detach(payment);
+            });
+        }
+    }
+
     public PaymentResponse getPayment(Long userId, Long paymentId) {
         Payment payment = getPaymentAndVerifyOwner(userId, paymentId);
         return toPaymentResponse(payment);
@@ -251,6 +376,7 @@ public class PaymentService {
 
     @Transactional
     public PaymentResponse createPayment(Long userId, PaymentCreateRequest request) {
+        userDataVersionService.bump(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
@@ -274,18 +400,21 @@ public class PaymentService {
                 .isRecurring(request.getIsRecurring() != null ? request.getIsRecurring() : false)
                 .autoPay(request.getAutoPay() != null ? request.getAutoPay() : false)
                 .dueDate(request.getDueDate())
-                .status(status)
+                .status(resolveUnpaidStatus(status, request.getDueDate(), LocalDate.now(clock)))
                 .sourceType(request.getSourceType())
                 .sourceId(request.getSourceId())
                 .build();
 
         Payment savedPayment = paymentRepository.save(payment);
+        paymentRollupService.add(savedPayment);
         return toPaymentResponse(savedPayment);
     }
 
     @Transactional
     public PaymentResponse updatePayment(Long userId, Long paymentId, PaymentCreateRequest request) {
-        Payment payment = getPaymentAndVerifyOwner(userId, paymentId);
+        userDataVersionService.bump(userId);
+        Payment payment = getPaymentForUpdate(userId, paymentId);
+        paymentRollupService.remove(payment);
 
         payment.setName(request.getName());
         payment.setCategory(request.getCategory());
@@ -295,41 +424,152 @@ public class PaymentService {
         payment.setIsRecurring(request.getIsRecurring() != null ? request.getIsRecurring() : false);
         payment.setAutoPay(request.getAutoPay() != null ? request.getAutoPay() : false);
         payment.setDueDate(request.getDueDate());
+        payment.setStatus(resolveUnpaidStatus(payment.getStatus(), payment.getDueDate(), LocalDate.now(clock)));
 
         Payment savedPayment = paymentRepository.save(payment);
+        paymentRollupService.add(savedPayment);
         return toPaymentResponse(savedPayment);
     }
 
     @Transactional
     public PaymentResponse updatePaymentStatus(Long userId, Long paymentId, PaymentStatus status) {
-        Payment payment = getPaymentAndVerifyOwner(userId, paymentId);
-        payment.setStatus(status);
+        userDataVersionService.bump(userId);
+        Payment payment = getPaymentForUpdate(userId, paymentId);
+        paymentRollupService.remove(payment);
+        payment.setStatus(resolveUnpaidStatus(status, payment.getDueDate(), LocalDate.now(clock)));
 
         // 납부 완료 시 납부일 기록
         if (status == PaymentStatus.PAID) {
-            payment.setPaidDate(LocalDate.now());
+            payment.setPaidDate(LocalDate.now(clock));
         } else {
             payment.setPaidDate(null);
         }
 
         Payment savedPayment = paymentRepository.save(payment);
+        paymentRollupService.add(savedPayment);
         return toPaymentResponse(savedPayment);
     }
 
+    // 여러 납부 내역의 상태를 한 번의 UPDATE 로 변경
+    // 음수 id(가상 정기 납부 항목)는 해당 월의 실제 납부 내역으로 생성해 함께 처리
+    @Transactional
+    public PaymentBulkStatusResponse updatePaymentStatuses(Long userId, PaymentBulkStatusRequest request) {
+        userDataVersionService.bump(userId);
+        PaymentStatus status = request.getStatus();
+        LocalDate paidDate = null;
+        if (status == PaymentStatus.PAID) {
+            paidDate = request.getPaidDate() != null ? request.getPaidDate() : LocalDate.now(clock);
+        }
+
+        Set<Long> paymentIds = new LinkedHashSet<>();
+        Set<Long> templateIds = new LinkedHashSet<>();
+        List<Long> skippedIds = new ArrayList<>();
+        for (Long id : request.getIds()) {
+            if (id > 0) {
+                paymentIds.add(id);
+            } else if (id < 0) {
+                templateIds.add(-id);
+            } else {
+                skippedIds.add(id);
+            }
+        }
+
+        List<PaymentResponse> materializedPayments = new ArrayList<>();
+        if (!templateIds.isEmpty()) {
+            if (request.getYear() == null || request.getMonth() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "year and month are required for virtual payments");
+            }
+            YearMonth target = YearMonth.of(request.getYear(), request.getMonth());
+            List<Payment> created = materializeRecurringPayments(userId, target, templateIds, status, paidDate,
+                    paymentIds, skippedIds);
+            List<Payment> saved = paymentRepository.saveAll(created);
+            paymentRollupService.addAll(userId, saved);
+            saved.forEach(payment -> materializedPayments.add(toPaymentResponse(payment)));
+        }
+
+        int updatedCount = 0;
+        if (!paymentIds.isEmpty()) {
+            List<Payment> payments = paymentRepository.findByUserIdAndIdInForUpdate(userId, paymentIds);
+            Set<Long> ownedIds = payments.stream().map(Payment::getId).collect(Collectors.toSet());
+            paymentIds.stream().filter(id -> !ownedIds.contains(id)).forEach(skippedIds::add);
+            if (!ownedIds.isEmpty()) {
+                paymentRollupService.applyStatusChange(userId, payments, status);
+                updatedCount = status == PaymentStatus.OVERDUE
+                        ? paymentRepository.markOverdueByUserIdAndIdIn(userId, ownedIds, LocalDate.now(clock))
+                        : paymentRepository.updateStatusByUserIdAndIdIn(userId, ownedIds, status, paidDate);
+            }
+        }
+
+        return new PaymentBulkStatusResponse(updatedCount + materializedPayments.size(), materializedPayments, skippedIds);
+    }
+
+    // 템플릿 id 별로 대상 월의 실제 납부 내역을 만든다
+    // 이미 같은 (이름, 카테고리) 항목이 있는 달은 새로 만들지 않고 기존 id 를 갱신 대상에 추가
+    private List<Payment> materializeRecurringPayments(Long userId, YearMonth target, Set<Long> templateIds,
+                                                       PaymentStatus status, LocalDate paidDate,
+                                                       Set<Long> paymentIds, List<Long> skippedIds) {
+        Map<Long, Payment> templates = paymentRepository.findByUserIdAndIdIn(userId, templateIds).stream()
+                .filter(payment -> Boolean.TRUE.equals(payment.getIsRecurring()))
+                .collect(Collectors.toMap(Payment::getId, payment -> payment));
+
+        Map<String, Long> existingIds = new HashMap<>();
+        for (Payment payment : paymentRepository.findByUserIdAndDueDateBetween(userId, target.atDay(1), target.atEndOfMonth())) {
+            existingIds.putIfAbsent(buildRecurringKey(payment.getName(), payment.getCategory().name()), payment.getId());
+        }
+
+        List<Payment> created = new ArrayList<>();
+        for (Long templateId : templateIds) {
+            Payment template = templates.get(templateId);
+            Integer paymentDay = template != null ? resolvePaymentDay(template) : null;
+            if (paymentDay == null) {
+                skippedIds.add(-templateId);
+                continue;
+            }
+
+            Long existingId = existingIds.get(buildRecurringKey(template.getName(), template.getCategory().name()));
+            if (existingId != null) {
+                paymentIds.add(existingId);
+                continue;
+            }
+
+            LocalDate dueDate = target.atDay(Math.min(paymentDay, target.lengthOfMonth()));
+            created.add(Payment.builder()
+                    .user(template.getUser())
+                    .name(template.getName())
+                    .category(template.getCategory())
+                    .amount(template.getAmount())
+                    .paymentDay(dueDate.getDayOfMonth())
+                    .isRecurring(false)
+                    .autoPay(template.getAutoPay() != null ? template.getAutoPay() : false)
+                    .dueDate(dueDate)
+                    .status(resolveUnpaidStatus(status, dueDate, LocalDate.now(clock)))
+                    .paidDate(paidDate)
+                    .build());
+        }
+        return created;
+    }
+
     @Transactional
     public void deletePayment(Long userId, Long paymentId) {
-        Payment payment = getPaymentAndVerifyOwner(userId, paymentId);
+        userDataVersionService.bump(userId);
+        Payment payment = getPaymentForUpdate(userId, paymentId);
+        paymentRollupService.remove(payment);
         paymentRepository.delete(payment);
     }
 
     private Payment getPaymentAndVerifyOwner(Long userId, Long paymentId) {
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+        return paymentRepository.findByIdAndUserId(paymentId, userId)
+                .orElseThrow(() -> paymentRepository.existsById(paymentId)
+                        ? new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+    }
 
-        if (!payment.getUser().getId().equals(userId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
-        }
-        return payment;
+    // 롤업을 차감하고 다시 더하는 쓰기 경로용 (커밋까지 행 잠금)
+    private Payment getPaymentForUpdate(Long userId, Long paymentId) {
+        return paymentRepository.findByIdAndUserIdForUpdate(paymentId, userId)
+                .orElseThrow(() -> paymentRepository.existsById(paymentId)
+                        ? new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
     }
 
     public Long getUserIdByEmail(String email) {
@@ -338,6 +578,44 @@ public class PaymentService {
                 .getId();
     }
 
+    private String encodeCursor(Payment payment) {
+        String dueDate = payment.getDueDate() != null ? payment.getDueDate().toString() : "";
+        String raw = dueDate + ":" + payment.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new String[]{"", "0"};
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private LocalDate parseCursorDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private Long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
     private PaymentResponse toPaymentResponse(Payment payment) {
         Integer paymentDay = payment.getPaymentDay();
         if (paymentDay == null && payment.getDueDate() != null) {
@@ -359,6 +637,15 @@ public class PaymentService {
         return response;
     }
 
+    // OVERDUE 는 예정일이 지난 경우에만 저장 (OverduePaymentJob 이 저장한 OVERDUE 도 예정일을 오늘 이후로 옮기면 UPCOMING 으로 되돌림)
+    // 가져오기(PaymentImportService)도 같은 규칙을 따름
+    static PaymentStatus resolveUnpaidStatus(PaymentStatus status, LocalDate dueDate, LocalDate today) {
+        if (status == PaymentStatus.OVERDUE && (dueDate == null || !dueDate.isBefore(today))) {
+            return PaymentStatus.UPCOMING;
+        }
+        return status;
+    }
+
     private PaymentResponse toPaymentResponseWithComputedStatus(Payment payment, LocalDate today) {
         PaymentResponse response = toPaymentResponse(payment);
         if (response.getStatus() == PaymentStatus.UPCOMING &&
@@ -371,6 +658,9 @@ public class PaymentService {
 
     @Transactional
     public void deletePaymentsBySource(Long userId, String sourceType, Long sourceId) {
+        userDataVersionService.bump(userId);
+        List<Payment> payments = paymentRepository.findByUserIdAndSourceTypeAndSourceIdForUpdate(userId, sourceType, sourceId);
+        paymentRollupService.removeAll(userId, payments);
         paymentRepository.deleteByUserIdAndSourceTypeAndSourceId(userId, sourceType, sourceId);
     }
 
@@ -4,22 +4,14 @@ import com.starter.domain.Contract;
 import com.starter.domain.SpecialTerm;
 import com.starter.dto.request.SpecialTermCreateRequest;
 import com.starter.dto.response.SpecialTermResponse;
-import com.starter.repository.ContractRepository;
 import com.starter.repository.SpecialTermRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -30,21 +22,27 @@ import java.util.stream.Collectors;
 public class SpecialTermService {
 
     private final SpecialTermRepository specialTermRepository;
-    private final ContractRepository contractRepository;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    private final ContractOwnershipService contractOwnershipService;
+    private final UserDataVersionService userDataVersionService;
+    private final FileStorageService fileStorageService;
+    private final FileReclamationService fileReclamationService;
 
     public List<SpecialTermResponse> getSpecialTermsByContract(Long userId, Long contractId) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
-        return specialTermRepository.findByContractId(contract.getId()).stream()
+        contractOwnershipService.verifyOwner(userId, contractId);
+        return getSpecialTermsOfVerifiedContract(contractId);
+    }
+
+    // 소유권 확인이 끝난 계약용 (워크스페이스 조회)
+    public List<SpecialTermResponse> getSpecialTermsOfVerifiedContract(Long contractId) {
+        return specialTermRepository.findByContractId(contractId).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public SpecialTermResponse createSpecialTerm(Long userId, Long contractId, SpecialTermCreateRequest request) {
-        Contract contract = getContractAndVerifyOwner(userId, contractId);
+        userDataVersionService.bump(userId);
+        Contract contract = contractOwnershipService.getContractReference(userId, contractId);
 
         SpecialTerm term = new SpecialTerm();
         term.setContract(contract);
@@ -58,6 +56,7 @@ public class SpecialTermService {
 
     @Transactional
     public SpecialTermResponse updateSpecialTerm(Long userId, Long termId, SpecialTermCreateRequest request) {
+        userDataVersionService.bump(userId);
         SpecialTerm term = getTermAndVerifyOwner(userId, termId);
         term.setCategory(request.getCategory());
         term.setPhase(request.getPhase());
@@ -67,12 +66,15 @@ public class SpecialTermService {
 
     @Transactional
     public void deleteSpecialTerm(Long userId, Long termId) {
+        userDataVersionService.bump(userId);
         SpecialTerm term = getTermAndVerifyOwner(userId, termId);
+        reclaimStoredFile(term.getFilePath());
         specialTermRepository.delete(term);
     }
 
     @Transactional
     public SpecialTermResponse toggleConfirm(Long userId, Long termId) {
+        userDataVersionService.bump(userId);
         SpecialTerm term = getTermAndVerifyOwner(userId, termId);
         term.setIsConfirmed(!Boolean.TRUE.equals(term.getIsConfirmed()));
         return toResponse(specialTermRepository.save(term));
@@ -80,21 +82,19 @@ public class SpecialTermService {
 
     @Transactional
     public SpecialTermResponse uploadFile(Long userId, Long termId, MultipartFile file) {
+        userDataVersionService.bump(userId);
         SpecialTerm term = getTermAndVerifyOwner(userId, termId);
         try {
-            Path dir = Paths.get(uploadDir, "special-terms", userId.toString(), termId.toString());
-            Files.createDirectories(dir);
-
             String originalName = file.getOriginalFilename();
             String ext = "";
             if (originalName != null && originalName.contains(".")) {
                 ext = originalName.substring(originalName.lastIndexOf("."));
             }
             String storedName = UUID.randomUUID() + ext;
-            Path filePath = dir.resolve(storedName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            String filePath = fileStorageService.store("special-terms/" + userId + "/" + termId + "/" + storedName, file);
+            reclaimStoredFile(term.getFilePath());
 
-            term.setFilePath(filePath.toString());
+            term.setFilePath(filePath);
             term.setFileName(originalName);
             return toResponse(specialTermRepository.save(term));
         } catch (IOException e) {
@@ -107,34 +107,21 @@ public class SpecialTermService {
         if (term.getFilePath() == null || term.getFilePath().isBlank()) {
             throw new IllegalArgumentException("첨부된 파일이 없습니다.");
         }
-        try {
-            Path filePath = Paths.get(term.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-            if (!resource.exists()) {
-                throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
-            }
-            return resource;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("파일 경로 오류", e);
-        }
+        return fileStorageService.load(term.getFilePath(), term.getFileName());
     }
 
-    private Contract getContractAndVerifyOwner(Long userId, Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
-                .orElseThrow(() -> new IllegalArgumentException("Contract not found with id: " + contractId));
-        if (!contract.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
+    // 커밋 이후 삭제 (롤백되면 파일 유지)
+    private void reclaimStoredFile(String filePath) {
+        if (filePath != null && !filePath.isBlank()) {
+            fileReclamationService.reclaimAfterCommit(List.of(filePath));
         }
-        return contract;
     }
 
     private SpecialTerm getTermAndVerifyOwner(Long userId, Long termId) {
-        SpecialTerm term = specialTermRepository.findById(termId)
-                .orElseThrow(() -> new IllegalArgumentException("SpecialTerm not found with id: " + termId));
-        if (!term.getContract().getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied");
-        }
-        return term;
+        return specialTermRepository.findByIdAndOwnerId(termId, userId)
+                .orElseThrow(() -> specialTermRepository.existsById(termId)
+                        ? new IllegalArgumentException("Access denied")
+                        : new IllegalArgumentException("SpecialTerm not found with id: " + termId));
     }
 
     private SpecialTermResponse toResponse(SpecialTerm term) {
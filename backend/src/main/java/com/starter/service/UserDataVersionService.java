@@ -0,0 +1,118 @@
+package com.starter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 데이터 버전 (쓰기마다 증가) -> GET 응답의 약한 ETag
+// Redis 가 활성화되어 있으면 인스턴스 간에 공유하고, 아니면 메모리에만 보관한다
+// 메모리 카운터는 재시작 시 0 부터 다시 시작하므로 ETag 에 기동 시각(epoch)을 함께 넣는다
+// Redis 는 카운터와 epoch 를 한 해시(DV:versions)에 두어 flush/장애 조치/eviction 때 함께 사라지게 하고,
+// epoch 가 없으면 새로 만들어(HSETNX) 이전에 발급한 ETag 가 다시 맞지 않게 한다
+@Service
+@Slf4j
+public class UserDataVersionService {
+
+    private static final String VERSIONS_KEY = "DV:versions";
+    private static final String EPOCH_FIELD = "epoch";
+    private static final String GLOBAL_FIELD = "global";
+
+    private final Map<Long, AtomicLong> localVersions = new ConcurrentHashMap<>();
+    private final AtomicLong localGlobalVersion = new AtomicLong();
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Clock clock;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    public UserDataVersionService(Clock clock) {
+        this.clock = clock;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 버전 증가 (트랜잭션 밖이면 즉시)
+    public void bump(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(userId);
+                }
+            });
+        } else {
+            increment(userId);
+        }
+    }
+
+    // 여러 사용자의 데이터가 한 번에 바뀌는 배치 작업용
+    public void bumpAll() {
+        localGlobalVersion.incrementAndGet();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForHash().increment(VERSIONS_KEY, GLOBAL_FIELD, 1);
+            } catch (Exception e) {
+                log.warn("Failed to bump global data version in Redis: {}", e.getMessage());
+            }
+        }
+    }
+
+    // W/"<사용자>-<epoch>.<전체 버전>.<사용자 버전>-<날짜>" (Redis 모드는 epoch 앞에 r)
+    // 연체 여부처럼 날짜에 따라 바뀌는 계산 값이 있으므로 날짜도 포함
+    public String etag(Long userId) {
+        String version = redisVersion(userId);
+        if (version == null) {
+            AtomicLong local = localVersions.get(userId);
+            version = bootEpoch + "." + localGlobalVersion.get() + "." + (local != null ? local.get() : 0L);
+        }
+        return "W/\"" + userId + "-" + version + "-" + LocalDate.now(clock).toEpochDay() + "\"";
+    }
+
+    private void increment(Long userId) {
+        localVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForHash().increment(VERSIONS_KEY, userId.toString(), 1);
+            } catch (Exception e) {
+                log.warn("Failed to bump data version in Redis userId={}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    // "r<epoch>.<전체 버전>.<사용자 버전>" (Redis 미사용/장애 시 null)
+    private String redisVersion(Long userId) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            HashOperations<String, Object, Object> versions = redisTemplate.opsForHash();
+            List<Object> values = versions.multiGet(VERSIONS_KEY, List.of(EPOCH_FIELD, GLOBAL_FIELD, userId.toString()));
+            Object epoch = values.get(0);
+            if (epoch == null) {
+                // 해시가 사라졌다 다시 생긴 경우(카운터 초기화)도 epoch 가 없으므로 새 epoch 로 교체됨
+                versions.putIfAbsent(VERSIONS_KEY, EPOCH_FIELD, Long.toString(System.currentTimeMillis(), 36));
+                epoch = versions.get(VERSIONS_KEY, EPOCH_FIELD);
+            }
+            return "r" + epoch + "." + count(values.get(1)) + "." + count(values.get(2));
+        } catch (Exception e) {
+            log.warn("Failed to read data version from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long count(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -7,6 +7,8 @@ import com.starter.dto.response.UtilityResponse;
 import com.starter.enums.UtilityType;
 import com.starter.repository.UtilityRepository;
 import com.starter.repository.UserRepository;
+import com.starter.utils.Money;
+import com.starter.utils.MoneyAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -24,8 +26,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UtilityService {
 
+    // 요약 합계 슬롯
+    private static final int CURRENT = 0;
+    private static final int PREVIOUS = 1;
+
     private final UtilityRepository utilityRepository;
     private final UserRepository userRepository;
+    private final UserDataVersionService userDataVersionService;
 
     public List<UtilityResponse> getUtilitiesByMonth(Long userId, String yearMonth) {
         List<Utility> utilities = utilityRepository.findByUserIdAndYearMonth(userId, yearMonth);
@@ -64,40 +71,32 @@ public class UtilityService {
         String prevYearMonth = String.format("%04d-%02d", year, month);
         List<Utility> prevMonth = utilityRepository.findByUserIdAndYearMonth(userId, prevYearMonth);
 
-        // 현재 월 총액
-        BigDecimal currentTotal = currentMonth.stream()
-                .map(Utility::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 전월 총액
-        BigDecimal prevTotal = prevMonth.stream()
-                .map(Utility::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 유형별 [현재 월, 전월] 금액을 원 단위 long 으로 한 번에 합산
+        MoneyAccumulator<UtilityType> totals = new MoneyAccumulator<>(UtilityType.class, 2);
+        for (Utility utility : currentMonth) {
+            totals.add(utility.getType(), CURRENT, Money.of(utility.getAmount()));
+        }
+        for (Utility utility : prevMonth) {
+            totals.add(utility.getType(), PREVIOUS, Money.of(utility.getAmount()));
+        }
 
-        // 유형별 금액
+        // 유형별 금액 (현재 월에 있는 유형만)
         Map<String, BigDecimal> byType = new HashMap<>();
         for (Utility utility : currentMonth) {
-            byType.merge(utility.getType().name(), utility.getAmount(), BigDecimal::add);
+            byType.put(utility.getType().name(), Money.toBigDecimal(totals.get(utility.getType(), CURRENT)));
         }
 
         // 전월 대비 변화
         Map<String, BigDecimal> comparison = new HashMap<>();
         for (UtilityType type : UtilityType.values()) {
-            BigDecimal current = currentMonth.stream()
-                    .filter(u -> u.getType() == type)
-                    .map(Utility::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal prev = prevMonth.stream()
-                    .filter(u -> u.getType() == type)
-                    .map(Utility::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            comparison.put(type.name(), current.subtract(prev));
+            comparison.put(type.name(), Money.toBigDecimal(
+                    Money.subtract(totals.get(type, CURRENT), totals.get(type, PREVIOUS))));
         }
 
         Map<String, Object> summary = new HashMap<>();
         summary.put("yearMonth", yearMonth);
-        summary.put("currentTotal", currentTotal);
-        summary.put("prevTotal", prevTotal);
+        summary.put("currentTotal", Money.toBigDecimal(totals.sum(CURRENT)));
+        summary.put("prevTotal", Money.toBigDecimal(totals.sum(PREVIOUS)));
         summary.put("byType", byType);
         summary.put("comparison", comparison);
         summary.put("utilities", currentMonth.stream().map(this::toResponse).collect(Collectors.toList()));
@@ -107,6 +106,7 @@ public class UtilityService {
 
     @Transactional
     public UtilityResponse createUtility(Long userId, UtilityCreateRequest request) {
+        userDataVersionService.bump(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
@@ -134,6 +134,7 @@ public class UtilityService {
 
     @Transactional
     public UtilityResponse updateUtility(Long userId, Long utilityId, UtilityCreateRequest request) {
+        userDataVersionService.bump(userId);
         Utility utility = getUtilityAndVerifyOwner(userId, utilityId);
 
         utility.setType(request.getType());
@@ -151,6 +152,7 @@ public class UtilityService {
 
     @Transactional
     public void deleteUtility(Long userId, Long utilityId) {
+        userDataVersionService.bump(userId);
         Utility utility = getUtilityAndVerifyOwner(userId, utilityId);
         utilityRepository.delete(utility);
     }
@@ -162,13 +164,10 @@ public class UtilityService {
     }
 
     private Utility getUtilityAndVerifyOwner(Long userId, Long utilityId) {
-        Utility utility = utilityRepository.findById(utilityId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utility not found"));
-
-        if (!utility.getUser().getId().equals(userId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
-        }
-        return utility;
+        return utilityRepository.findByIdAndUserId(utilityId, userId)
+                .orElseThrow(() -> utilityRepository.existsById(utilityId)
+                        ? new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Utility not found"));
     }
 
     private UtilityResponse toResponse(Utility utility) {
@@ -0,0 +1,65 @@
+package com.starter.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+// file.upload-dir 아래에 저장, location 은 파일 경로 그대로 (기존 filePath 값과 같은 형식)
+@Component
+public class LocalStorageEngine implements StorageEngine {
+
+    private final Path root;
+
+    public LocalStorageEngine(@Value("${file.upload-dir:./uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public boolean supports(String location) {
+        return location != null && !location.contains("://");
+    }
+
+    @Override
+    public String put(String key, InputStream content, long size, String contentType) throws IOException {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root.normalize())) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        Files.createDirectories(target.getParent());
+        Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        return target.toString();
+    }
+
+    @Override
+    public StoredObject get(String location) throws IOException {
+        Path path = Paths.get(location);
+        long size = Files.size(path);
+        return new StoredObject(Files.newInputStream(path), size, Files.probeContentType(path));
+    }
+
+    @Override
+    public long size(String location) throws IOException {
+        return Files.size(Paths.get(location));
+    }
+
+    @Override
+    public boolean exists(String location) {
+        return Files.exists(Paths.get(location));
+    }
+
+    @Override
+    public void delete(String location) throws IOException {
+        Files.deleteIfExists(Paths.get(location));
+    }
+}
@@ -0,0 +1,242 @@
+package com.starter.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.Optional;
+
+// storage.s3.bucket 에 저장, location 은 "s3://<bucket>/<prefix>/<key>"
+// 업로드/다운로드 모두 스트림으로 전달해 파일 전체를 메모리에 올리지 않음
+// 다운로드는 GET 한 번으로 본문 스트림과 크기/Content-Type 을 함께 받음 (HEAD 선행 없음)
+@Component
+@ConditionalOnProperty(prefix = "storage.s3", name = "enabled", havingValue = "true")
+public class S3StorageEngine implements StorageEngine {
+
+    private static final String SCHEME = "s3://";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final String prefix;
+
+    public S3StorageEngine(S3Client s3Client,
+                           S3Presigner s3Presigner,
+                           @Value("${storage.s3.bucket:}") String bucket,
+                           @Value("${storage.s3.prefix:}") String prefix) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = normalizeBucketName(bucket);
+        this.prefix = normalizePrefix(prefix);
+    }
+
+    @Override
+    public String name() {
+        return "s3";
+    }
+
+    @Override
+    public boolean supports(String location) {
+        return location != null && location.startsWith(SCHEME);
+    }
+
+    @Override
+    public String put(String key, InputStream content, long size, String contentType) throws IOException {
+        String objectKey = prefix.isEmpty() ? key : prefix + "/" + key;
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(objectKey)
+                            .contentType(contentType)
+                            .contentLength(size)
+                            .build(),
+                    RequestBody.fromInputStream(content, size));
+        } catch (SdkException e) {
+            throw new IOException("S3 upload failed: " + objectKey, e);
+        }
+        return SCHEME + bucket + "/" + objectKey;
+    }
+
+    @Override
+    public StoredObject get(String location) throws IOException {
+        S3Location object = parse(location);
+        try {
+            ResponseInputStream<GetObjectResponse> content =
+                    s3Client.getObject(GetObjectRequest.builder().bucket(object.bucket()).key(object.key()).build());
+            GetObjectResponse response = content.response();
+            long size = response.contentLength() != null ? response.contentLength() : -1;
+            return new StoredObject(new AbortOnCloseInputStream(content), size, response.contentType());
+        } catch (SdkException e) {
+            throw translate(location, e);
+        }
+    }
+
+    @Override
+    public long size(String location) throws IOException {
+        S3Location object = parse(location);
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(object.bucket()).key(object.key()).build())
+                    .contentLength();
+        } catch (SdkException e) {
+            throw translate(location, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String location) throws IOException {
+        try {
+            size(location);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String location) throws IOException {
+        S3Location object = parse(location);
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(object.bucket()).key(object.key()).build());
+        } catch (SdkException e) {
+            throw translate(location, e);
+        }
+    }
+
+    @Override
+    public boolean supportsPresignedGet() {
+        return true;
+    }
+
+    // 서명만 하므로 S3 요청은 없음 (객체가 없으면 클라이언트가 S3 에서 404 를 받음)
+    @Override
+    public Optional<URI> presignedGet(String location, Duration ttl, String contentType, String contentDisposition)
+            throws IOException {
+        S3Location object = parse(location);
+        try {
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(object.bucket())
+                    .key(object.key())
+                    .responseContentType(contentType)
+                    .responseContentDisposition(contentDisposition)
+                    .build();
+            return Optional.of(s3Presigner.presignGetObject(presign -> presign
+                            .signatureDuration(ttl)
+                            .getObjectRequest(request))
+                    .url()
+                    .toURI());
+        } catch (SdkException | URISyntaxException e) {
+            throw new IOException("S3 presign failed: " + location, e);
+        }
+    }
+
+    private IOException translate(String location, SdkException e) {
+        if (e instanceof NoSuchKeyException || (e instanceof S3Exception s3 && s3.statusCode() == 404)) {
+            return new NoSuchFileException(location);
+        }
+        return new IOException("S3 request failed: " + location, e);
+    }
+
+    // 버킷은 location 에서 읽음 (버킷을 바꿔도 이전 파일 조회 가능)
+    private S3Location parse(String location) {
+        String raw = location.substring(SCHEME.length());
+        int slash = raw.indexOf('/');
+        if (slash <= 0 || slash == raw.length() - 1) {
+            throw new IllegalArgumentException("잘못된 S3 파일 경로입니다.");
+        }
+        return new S3Location(raw.substring(0, slash), raw.substring(slash + 1));
+    }
+
+    private static String normalizeBucketName(String rawBucket) {
+        if (rawBucket == null || rawBucket.isBlank()) {
+            throw new IllegalStateException("storage.s3.enabled=true 인데 storage.s3.bucket 값이 비어 있습니다.");
+        }
+        String bucket = rawBucket.trim();
+        bucket = bucket.replaceFirst("^s3://", "");
+        bucket = bucket.replaceFirst("^https?://", "");
+        int slashIndex = bucket.indexOf('/');
+        if (slashIndex > 0) {
+            bucket = bucket.substring(0, slashIndex);
+        }
+
+        if (!bucket.matches("^[a-z0-9][a-z0-9.-]{1,61}[a-z0-9]$")) {
+            throw new IllegalStateException("유효하지 않은 S3 버킷명입니다: " + bucket);
+        }
+        return bucket;
+    }
+
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String normalized = prefix.trim();
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    private record S3Location(String bucket, String key) {
+    }
+
+    // 끝까지 읽지 않고 닫으면 연결을 끊음
+    // HTTP 클라이언트는 연결을 재사용하려고 close 때 남은 본문을 모두 받으므로
+    // 클라이언트가 중간에 끊거나 응답에 쓰이지 않은 스트림을 닫을 때 객체 전체를 받지 않게 함
+    private static final class AbortOnCloseInputStream extends FilterInputStream {
+
+        private final ResponseInputStream<GetObjectResponse> response;
+        private boolean eof;
+
+        private AbortOnCloseInputStream(ResponseInputStream<GetObjectResponse> response) {
+            super(response);
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b < 0) {
+                eof = true;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            int n = super.read(buffer, off, len);
+            if (n < 0) {
+                eof = true;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!eof) {
+                response.abort();
+            }
+            super.close();
+        }
+    }
+}
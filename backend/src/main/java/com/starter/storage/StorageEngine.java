@@ -0,0 +1,41 @@
+package com.starter.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+// 첨부 파일 저장소 (로컬 디스크, S3)
+// key 는 "checklists/입주전/1/xxx.pdf" 처럼 저장소와 무관한 논리 경로이고,
+// put 이 돌려준 location 을 DB(filePath)에 저장해 이후 조회/삭제에 사용한다
+// 없는 파일은 NoSuchFileException 으로 통일
+public interface StorageEngine {
+
+    // 메트릭 태그용 이름
+    String name();
+
+    // 이 저장소가 만든 location 인지 (DB 에는 여러 저장소의 location 이 섞여 있을 수 있음)
+    boolean supports(String location);
+
+    String put(String key, InputStream content, long size, String contentType) throws IOException;
+
+    StoredObject get(String location) throws IOException;
+
+    long size(String location) throws IOException;
+
+    boolean exists(String location) throws IOException;
+
+    void delete(String location) throws IOException;
+
+    // 클라이언트가 저장소에서 직접 받을 수 있는 임시 GET URL 을 만들 수 있는지
+    default boolean supportsPresignedGet() {
+        return false;
+    }
+
+    // contentType/contentDisposition 은 저장소가 응답 헤더로 그대로 내려줌 (null 이면 저장된 값 사용)
+    default Optional<URI> presignedGet(String location, Duration ttl, String contentType, String contentDisposition)
+            throws IOException {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,8 @@
+package com.starter.storage;
+
+import java.io.InputStream;
+
+// 저장소에서 연 파일 스트림과 응답 헤더에 쓸 메타데이터 (S3 는 GetObjectResponse 값)
+// size 를 모르면 -1, contentType 은 저장 시 기록된 값이 없으면 null
+public record StoredObject(InputStream content, long size, String contentType) {
+}
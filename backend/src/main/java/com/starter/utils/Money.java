@@ -0,0 +1,94 @@
+package com.starter.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// 원 단위 금액을 long 으로 다루는 집계용 유틸
+// 금액 컬럼은 모두 scale 0 이므로 집계 중에는 long 으로 계산하고 API 응답에서만 BigDecimal 로 변환한다
+// 덧셈/뺄셈은 오버플로 시 ArithmeticException, 반올림은 RoundingMode.HALF_UP 과 동일
+public final class Money {
+
+    private Money() {
+    }
+
+    // BigDecimal 금액 -> 원 단위 long (null 은 0)
+    public static long of(BigDecimal amount) {
+        return unscaled(amount, 0);
+    }
+
+    // 지정한 소수 자릿수 기준의 정수 값 (예: 연이율 3.25 -> scale 2 기준 325)
+    public static long unscaled(BigDecimal value, int scale) {
+        if (value == null) {
+            return 0L;
+        }
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long amount) {
+        return BigDecimal.valueOf(amount);
+    }
+
+    // scale 자리 소수로 해석한 값 (예: 823, 1 -> 82.3)
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long amount, long factor) {
+        return Math.multiplyExact(amount, factor);
+    }
+
+    // dividend / divisor 를 HALF_UP 으로 반올림
+    public static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder != 0) {
+            // |remainder| * 2 >= |divisor| 이면 0 에서 멀어지는 방향으로 올림 (오버플로 없이 비교)
+            long absRemainder = Math.abs(remainder);
+            long absDivisor = Math.abs(divisor);
+            if (absRemainder >= absDivisor - absRemainder) {
+                quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+            }
+        }
+        return quotient;
+    }
+
+    // a * b / c 를 HALF_UP 으로 반올림 (곱셈이 long 범위를 넘으면 BigInteger 로 계산)
+    public static long mulDivHalfUp(long a, long b, long c) {
+        long product;
+        try {
+            product = Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                    .divide(BigDecimal.valueOf(c), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+        }
+        return divideHalfUp(product, c);
+    }
+
+    // (current - previous) / previous * 100 을 소수 scale 자리까지 HALF_UP 반올림한 정수 값
+    // 예: 630000, 620000, scale 1 -> 16 (= 1.6%)
+    public static long percentChange(long current, long previous, int scale) {
+        long factor = 100L * pow10(scale);
+        return mulDivHalfUp(subtract(current, previous), factor, previous);
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1L;
+        for (int i = 0; i < exponent; i++) {
+            result = Math.multiplyExact(result, 10L);
+        }
+        return result;
+    }
+}
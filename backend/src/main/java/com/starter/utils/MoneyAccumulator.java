@@ -0,0 +1,57 @@
+package com.starter.utils;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// enum 키별 원 단위 합계를 long[] 슬롯으로 누적 (예: 카테고리별 [총액, 납부액])
+public class MoneyAccumulator<K extends Enum<K>> {
+
+    private final EnumMap<K, long[]> totals;
+    private final int slots;
+
+    public MoneyAccumulator(Class<K> keyType, int slots) {
+        this.totals = new EnumMap<>(keyType);
+        this.slots = slots;
+    }
+
+    public void add(K key, int slot, long amount) {
+        long[] values = totals.computeIfAbsent(key, k -> new long[slots]);
+        values[slot] = Money.add(values[slot], amount);
+    }
+
+    // 금액 0 으로 키만 등록 (합계가 0 이어도 응답에 포함해야 하는 경우)
+    public void touch(K key) {
+        totals.computeIfAbsent(key, k -> new long[slots]);
+    }
+
+    public long get(K key, int slot) {
+        long[] values = totals.get(key);
+        return values != null ? values[slot] : 0L;
+    }
+
+    public long sum(int slot) {
+        long sum = 0L;
+        for (long[] values : totals.values()) {
+            sum = Money.add(sum, values[slot]);
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return totals.isEmpty();
+    }
+
+    public void forEach(BiConsumer<K, long[]> action) {
+        totals.forEach(action);
+    }
+
+    // API 응답용: enum 이름 -> 해당 슬롯 금액
+    public Map<String, BigDecimal> toBigDecimalMap(int slot) {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        totals.forEach((key, values) -> result.put(key.name(), Money.toBigDecimal(values[slot])));
+        return result;
+    }
+}
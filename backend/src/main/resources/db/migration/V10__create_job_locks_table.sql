@@ -0,0 +1,7 @@
+-- 예약 작업의 서버 간 잠금 (임대 방식: locked_until 이 지나면 다른 서버가 가져갈 수 있음)
+CREATE TABLE job_locks (
+    job_name VARCHAR(100) PRIMARY KEY,
+    locked_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
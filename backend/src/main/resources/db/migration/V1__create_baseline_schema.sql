@@ -0,0 +1,185 @@
+-- 도메인 엔티티 기본 스키마 (inquiries, payment_monthly_rollup, job_checkpoints 는 이후 버전에서 생성)
+-- Flyway 도입 전 Hibernate 로 생성된 기존 DB 는 baseline-version 2 로 등록되어 V1, V2 를 건너뛴다
+-- 따라서 조회 경로용 인덱스는 여기가 아니라 V6 에 둔다
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NULL,
+    name VARCHAR(255) NOT NULL,
+    role VARCHAR(30) NOT NULL,
+    provider VARCHAR(255) NULL,
+    provider_id VARCHAR(255) NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE contracts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    address VARCHAR(500) NOT NULL,
+    jeonse_deposit DECIMAL(15, 0) NULL,
+    monthly_rent DECIMAL(10, 0) NULL,
+    maintenance_fee DECIMAL(10, 0) NULL,
+    monthly_payment_day INT NULL,
+    start_date DATE NULL,
+    end_date DATE NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_contracts_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE deposit_sources (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    contract_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    amount DECIMAL(15, 0) NOT NULL,
+    bank_name VARCHAR(100) NULL,
+    interest_rate DECIMAL(5, 2) NULL,
+    CONSTRAINT fk_deposit_sources_contract
+        FOREIGN KEY (contract_id) REFERENCES contracts(id)
+);
+
+CREATE TABLE checklists (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    contract_id BIGINT NOT NULL,
+    phase VARCHAR(30) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT NULL,
+    is_required BOOLEAN DEFAULT FALSE,
+    is_completed BOOLEAN DEFAULT FALSE,
+    completed_at DATETIME(6) NULL,
+    file_path VARCHAR(500) NULL,
+    file_name VARCHAR(255) NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_checklists_contract
+        FOREIGN KEY (contract_id) REFERENCES contracts(id)
+);
+
+CREATE TABLE documents (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    contract_id BIGINT NULL,
+    name VARCHAR(200) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    phase VARCHAR(30) NULL,
+    file_path VARCHAR(500) NULL,
+    file_name VARCHAR(300) NULL,
+    is_required BOOLEAN DEFAULT FALSE,
+    uploaded_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_documents_user
+        FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT fk_documents_contract
+        FOREIGN KEY (contract_id) REFERENCES contracts(id)
+);
+
+CREATE TABLE special_terms (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    contract_id BIGINT NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    phase VARCHAR(30) NULL,
+    content TEXT NOT NULL,
+    file_path VARCHAR(500) NULL,
+    file_name VARCHAR(300) NULL,
+    is_confirmed BOOLEAN DEFAULT FALSE,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_special_terms_contract
+        FOREIGN KEY (contract_id) REFERENCES contracts(id)
+);
+
+CREATE TABLE maintenances (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    contract_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    description TEXT NULL,
+    status VARCHAR(30) NOT NULL,
+    cost DECIMAL(10, 0) NULL,
+    paid_by VARCHAR(30) NULL,
+    file_path VARCHAR(500) NULL,
+    file_name VARCHAR(255) NULL,
+    completed_at DATETIME(6) NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_maintenances_contract
+        FOREIGN KEY (contract_id) REFERENCES contracts(id)
+);
+
+CREATE TABLE maintenance_records (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    description TEXT NULL,
+    cost DECIMAL(10, 0) NULL,
+    paid_by VARCHAR(30) NULL,
+    status VARCHAR(255) DEFAULT 'RECORDED',
+    recorded_at DATE NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_maintenance_records_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE maintenance_files (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    record_id BIGINT NOT NULL,
+    file_type VARCHAR(30) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    uploaded_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_maintenance_files_record
+        FOREIGN KEY (record_id) REFERENCES maintenance_records(id)
+);
+
+CREATE TABLE loans (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    principal_amount DECIMAL(15, 0) NOT NULL,
+    remaining_amount DECIMAL(15, 0) NULL,
+    interest_rate DECIMAL(5, 2) NOT NULL,
+    repayment_type VARCHAR(30) NOT NULL,
+    monthly_payment DECIMAL(15, 0) NULL,
+    bank_name VARCHAR(100) NULL,
+    start_date DATE NULL,
+    end_date DATE NULL,
+    payment_day INT NULL,
+    memo VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_loans_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE payments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    amount DECIMAL(10, 0) NOT NULL,
+    payment_day INT NULL,
+    is_recurring BOOLEAN DEFAULT FALSE,
+    auto_pay BOOLEAN DEFAULT FALSE,
+    due_date DATE NULL,
+    paid_date DATE NULL,
+    status VARCHAR(255) DEFAULT 'UPCOMING',
+    source_type VARCHAR(50) NULL,
+    source_id BIGINT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_payments_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE utilities (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    `year_month` VARCHAR(7) NOT NULL,
+    amount DECIMAL(10, 0) NOT NULL,
+    usage_amount DECIMAL(10, 2) NULL,
+    unit VARCHAR(20) NULL,
+    provider VARCHAR(100) NULL,
+    is_synced BOOLEAN DEFAULT FALSE,
+    paid_date DATE NULL,
+    CONSTRAINT fk_utilities_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+);
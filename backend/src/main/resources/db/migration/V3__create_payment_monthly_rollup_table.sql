@@ -0,0 +1,32 @@
+-- Flyway 도입 전 ddl-auto=update 로 이미 만들어진 DB 에서도 실패하지 않도록 IF NOT EXISTS
+CREATE TABLE IF NOT EXISTS payment_monthly_rollup (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    `year_month` VARCHAR(7) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    total_amount DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    paid_amount DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    upcoming_amount DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT uk_payment_monthly_rollup_user_month_category
+        UNIQUE (user_id, `year_month`, category),
+    CONSTRAINT fk_payment_monthly_rollup_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+-- ddl-auto=update 가 먼저 만든 테이블에 쌓인 값은 버리고 납부 내역에서 다시 계산
+DELETE FROM payment_monthly_rollup;
+
+-- 기존 납부 내역으로 롤업 채움 (예정일 없는 정기 납부 템플릿은 조회 시 가상 항목으로 계산하므로 제외)
+INSERT INTO payment_monthly_rollup (user_id, `year_month`, category, total_amount, paid_amount, upcoming_amount, updated_at)
+SELECT user_id,
+       CONCAT(CAST(YEAR(due_date) AS CHAR(4)), '-', LPAD(CAST(MONTH(due_date) AS CHAR(2)), 2, '0')),
+       category,
+       SUM(amount),
+       SUM(CASE WHEN status = 'PAID' THEN amount ELSE 0 END),
+       SUM(CASE WHEN status = 'PAID' THEN 0 ELSE amount END),
+       CURRENT_TIMESTAMP
+FROM payments
+WHERE due_date IS NOT NULL
+GROUP BY user_id, CONCAT(CAST(YEAR(due_date) AS CHAR(4)), '-', LPAD(CAST(MONTH(due_date) AS CHAR(2)), 2, '0')), category;
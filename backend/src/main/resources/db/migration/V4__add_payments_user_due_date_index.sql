@@ -0,0 +1 @@
+CREATE INDEX idx_payments_user_due_date_id ON payments (user_id, due_date, id);
@@ -0,0 +1,11 @@
+-- Flyway 도입 전 ddl-auto=update 로 이미 만들어진 DB 에서도 실패하지 않도록 IF NOT EXISTS
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_date DATE,
+    last_key BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_payments_user_status_due_date ON payments (user_id, status, due_date);
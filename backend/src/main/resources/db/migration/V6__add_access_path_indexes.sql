@@ -0,0 +1,37 @@
+-- 리포지토리 조회 메서드 기준 복합 인덱스
+-- (외래키 단일 컬럼 인덱스는 MySQL 이 자동 생성하므로 선두 컬럼이 같은 복합 인덱스로 대체된다)
+
+-- PaymentRepository.findByUserIdAndIsRecurring / findByUserIdAndIsRecurringAndDueDateBetween
+CREATE INDEX idx_payments_user_recurring_due_date ON payments (user_id, is_recurring, due_date);
+-- PaymentRepository.findByUserIdAndSourceTypeAndSourceId / deleteByUserIdAndSourceTypeAndSourceId
+CREATE INDEX idx_payments_user_source ON payments (user_id, source_type, source_id);
+
+-- UtilityRepository.findByUserIdAndYearMonth / findByUserIdAndYearMonthStartingWith
+CREATE INDEX idx_utilities_user_year_month_type ON utilities (user_id, `year_month`, type);
+-- UtilityRepository.findByUserIdAndType / findByUserIdAndTypeAndYearMonth
+CREATE INDEX idx_utilities_user_type_year_month ON utilities (user_id, type, `year_month`);
+
+-- LoanRepository.findByUserIdAndType
+CREATE INDEX idx_loans_user_type ON loans (user_id, type);
+
+-- ChecklistRepository.findByContractIdAndPhase / findByContractIdOrderByPhaseAscCreatedAtAsc
+CREATE INDEX idx_checklists_contract_phase_created_at ON checklists (contract_id, phase, created_at);
+
+-- DocumentRepository.findByContractIdAndPhase
+CREATE INDEX idx_documents_contract_phase ON documents (contract_id, phase);
+
+-- SpecialTermRepository.findByContractIdAndPhase
+CREATE INDEX idx_special_terms_contract_phase ON special_terms (contract_id, phase);
+
+-- MaintenanceRepository.findByContractIdOrderByCreatedAtDesc
+CREATE INDEX idx_maintenances_contract_created_at ON maintenances (contract_id, created_at);
+-- MaintenanceRepository.findByContractIdAndStatusOrderByCreatedAtDesc
+CREATE INDEX idx_maintenances_contract_status_created_at ON maintenances (contract_id, status, created_at);
+
+-- UserRepository.findByProviderAndProviderId
+CREATE INDEX idx_users_provider_provider_id ON users (provider, provider_id);
+
+-- InquiryRepository.findByUserIdOrderByCreatedAtDesc
+CREATE INDEX idx_inquiries_user_created_at ON inquiries (user_id, created_at);
+-- InquiryRepository.findByStatusOrderByCreatedAtDesc / findByStatusAndTypeOrderByCreatedAtDesc
+CREATE INDEX idx_inquiries_status_type_created_at ON inquiries (status, type, created_at);
@@ -0,0 +1,9 @@
+-- 기본 체크리스트는 템플릿(classpath:checklist-templates)에서 조회하고
+-- 사용자가 변경한 템플릿 항목만 checklists 행으로 저장한다
+ALTER TABLE contracts ADD COLUMN checklist_template_version INT NULL;
+
+ALTER TABLE checklists ADD COLUMN template_key VARCHAR(100) NULL;
+ALTER TABLE checklists ADD COLUMN is_dismissed BOOLEAN DEFAULT FALSE;
+
+ALTER TABLE checklists
+    ADD CONSTRAINT uk_checklists_contract_template_key UNIQUE (contract_id, template_key);
@@ -0,0 +1,11 @@
+-- 삭제된 레코드의 첨부 파일 삭제 대기열
+-- 레코드 삭제와 같은 트랜잭션에 기록해 커밋 직후 서버가 죽어도 파일 경로를 잃지 않음
+CREATE TABLE pending_file_deletions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_pending_file_deletions_next_attempt_at ON pending_file_deletions (next_attempt_at, id);
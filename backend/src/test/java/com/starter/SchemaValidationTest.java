@@ -0,0 +1,33 @@
+package com.starter;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// test 프로파일: H2(MySQL 모드)에 Flyway 마이그레이션을 적용하고 ddl-auto=validate 로 엔티티 매핑과 비교
+// 스키마와 매핑이 다르면 컨텍스트 기동 단계에서 실패
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaValidationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsApplyAndMatchEntityMappings() {
+        assertThat(flyway.info().pending()).isEmpty();
+        MigrationInfo current = flyway.info().current();
+        assertThat(current).isNotNull();
+        assertThat(current.getVersion().getVersion()).isEqualTo(latestMigrationVersion());
+    }
+
+    private String latestMigrationVersion() {
+        MigrationInfo[] all = flyway.info().all();
+        return all[all.length - 1].getVersion().getVersion();
+    }
+}
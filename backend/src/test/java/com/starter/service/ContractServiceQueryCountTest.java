@@ -0,0 +1,100 @@
+package com.starter.service;
+
+import com.starter.domain.User;
+import com.starter.dto.request.ContractCreateRequest;
+import com.starter.dto.request.DepositSourceCreateRequest;
+import com.starter.dto.response.ContractResponse;
+import com.starter.enums.ContractType;
+import com.starter.enums.DepositSourceType;
+import com.starter.enums.Role;
+import com.starter.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 계약 목록 조회가 계약 수와 무관하게 일정한 쿼리 수(계약 1회 + 보증금 출처 1회)로 끝나는지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ContractServiceQueryCountTest {
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getContractsByUserIdRunsConstantStatementCount() {
+        long oneContract = statementsForUserWithContracts(1);
+        long manyContracts = statementsForUserWithContracts(20);
+
+        assertThat(oneContract).isEqualTo(2);
+        assertThat(manyContracts).isEqualTo(oneContract);
+    }
+
+    @Test
+    void getContractsByUserIdWithoutContractsRunsSingleStatement() {
+        assertThat(statementsForUserWithContracts(0)).isEqualTo(1);
+    }
+
+    private long statementsForUserWithContracts(int contracts) {
+        Long userId = createUser();
+        for (int i = 0; i < contracts; i++) {
+            contractService.createContract(userId, contractRequest(i));
+        }
+
+        statistics.clear();
+        List<ContractResponse> responses = contractService.getContractsByUserId(userId);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(responses).hasSize(contracts);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getDepositSources()).hasSize(2));
+        return statements;
+    }
+
+    private Long createUser() {
+        String email = UUID.randomUUID() + "@example.com";
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("{noop}password")
+                .name("테스트")
+                .role(Role.USER)
+                .provider("local")
+                .build()).getId();
+    }
+
+    private ContractCreateRequest contractRequest(int index) {
+        ContractCreateRequest request = new ContractCreateRequest();
+        request.setType(ContractType.JEONSE);
+        request.setAddress("서울 " + index);
+        request.setJeonseDeposit(BigDecimal.valueOf(100_000_000L));
+        request.setStartDate(LocalDate.of(2026, 1, 1));
+        request.setEndDate(LocalDate.of(2027, 12, 31));
+        request.setDepositSources(List.of(
+                new DepositSourceCreateRequest(DepositSourceType.SELF, BigDecimal.valueOf(30_000_000L), null, null),
+                new DepositSourceCreateRequest(DepositSourceType.BANK, BigDecimal.valueOf(70_000_000L), "은행", new BigDecimal("3.5"))));
+        return request;
+    }
+}
@@ -0,0 +1,113 @@
+package com.starter.service;
+
+import com.starter.domain.Loan;
+import com.starter.dto.response.LoanResponse;
+import com.starter.enums.LoanType;
+import com.starter.repository.LoanRepository;
+import com.starter.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// long 원 단위로 바꾼 대출 이자 계산이 이전 BigDecimal 계산과 같은 값을 내는지 확인
+// 금액은 DECIMAL(15,0), 연이율은 DECIMAL(5,2) 컬럼 범위 안의 값으로 비교
+class LoanServiceInterestTest {
+
+    private static final Long USER_ID = 1L;
+    private static final BigDecimal MONTHS_PER_YEAR_PERCENT = BigDecimal.valueOf(1200);
+
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final LoanService loanService = new LoanService(
+            loanRepository, mock(UserRepository.class), mock(UserDataVersionService.class));
+
+    @Test
+    void monthlyAndTotalInterestMatchBigDecimalCalculation() {
+        Random random = new Random(7);
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(0, 10_000_000_000_000L));
+            // 일부는 잔여 원금 없이, 일부는 음수(과상환 입력) 잔여 원금으로
+            BigDecimal remaining = switch (i % 4) {
+                case 0 -> null;
+                case 1 -> BigDecimal.valueOf(-random.nextLong(0, 100_000_000L));
+                default -> BigDecimal.valueOf(random.nextLong(0, principal.longValue() + 1));
+            };
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(0, 100_000), 2);
+            LocalDate endDate = i % 3 == 0 ? null : LocalDate.now().plusMonths(random.nextInt(1, 400));
+            loans.add(loan((long) i, principal, remaining, rate, endDate));
+        }
+        // 나누어떨어지는 값, 버림되는 값, 정확히 0.5 원(양수/음수)
+        loans.add(loan(10_001L, BigDecimal.valueOf(1_000_000), null, new BigDecimal("0.06"), null));
+        loans.add(loan(10_002L, BigDecimal.valueOf(25_000), null, new BigDecimal("1.00"), null));
+        loans.add(loan(10_003L, BigDecimal.valueOf(600), null, new BigDecimal("1.00"), null));
+        loans.add(loan(10_004L, BigDecimal.valueOf(-600), null, new BigDecimal("1.00"), null));
+        when(loanRepository.findByUserId(USER_ID)).thenReturn(loans);
+
+        Map<String, Object> summary = loanService.getLoanSummary(USER_ID);
+
+        @SuppressWarnings("unchecked")
+        List<LoanResponse> responses = (List<LoanResponse>) summary.get("loans");
+        BigDecimal expectedTotal = BigDecimal.ZERO;
+        for (int i = 0; i < loans.size(); i++) {
+            Loan loan = loans.get(i);
+            LoanResponse response = responses.get(i);
+            BigDecimal expectedMonthly = previousMonthlyInterest(loan);
+            expectedTotal = expectedTotal.add(expectedMonthly);
+
+            assertThat(response.getMonthlyInterest()).as("monthly interest of loan %d", loan.getId())
+                    .isEqualByComparingTo(expectedMonthly);
+            Integer months = response.getRemainingMonths();
+            BigDecimal expectedTotalInterest = months == null || months <= 0
+                    ? BigDecimal.ZERO
+                    : expectedMonthly.multiply(BigDecimal.valueOf(months));
+            assertThat(response.getTotalInterest()).as("total interest of loan %d", loan.getId())
+                    .isEqualByComparingTo(expectedTotalInterest);
+        }
+        assertThat((BigDecimal) summary.get("totalMonthlyInterest")).isEqualByComparingTo(expectedTotal);
+    }
+
+    @Test
+    void roundsHalfUpAtWholeWon() {
+        Loan halfWon = loan(1L, BigDecimal.valueOf(600), null, new BigDecimal("1.00"), null);
+        Loan negativeHalfWon = loan(2L, BigDecimal.ZERO, BigDecimal.valueOf(-600), new BigDecimal("1.00"), null);
+        when(loanRepository.findByUserId(USER_ID)).thenReturn(List.of(halfWon, negativeHalfWon));
+
+        @SuppressWarnings("unchecked")
+        List<LoanResponse> responses = (List<LoanResponse>) loanService.getLoanSummary(USER_ID).get("loans");
+
+        // 600 * 1.00 / 1200 = 0.5 -> 1, -0.5 -> -1
+        assertThat(responses.get(0).getMonthlyInterest()).isEqualByComparingTo("1");
+        assertThat(responses.get(1).getMonthlyInterest()).isEqualByComparingTo("-1");
+    }
+
+    // 변경 전 LoanService.calculateMonthlyInterest
+    private static BigDecimal previousMonthlyInterest(Loan loan) {
+        BigDecimal principal = loan.getRemainingAmount() != null ? loan.getRemainingAmount() : loan.getPrincipalAmount();
+        if (principal == null || loan.getInterestRate() == null) {
+            return BigDecimal.ZERO;
+        }
+        return principal.multiply(loan.getInterestRate()).divide(MONTHS_PER_YEAR_PERCENT, 0, RoundingMode.HALF_UP);
+    }
+
+    private static Loan loan(Long id, BigDecimal principal, BigDecimal remaining, BigDecimal rate, LocalDate endDate) {
+        return Loan.builder()
+                .id(id)
+                .name("대출 " + id)
+                .type(LoanType.values()[(int) (id % LoanType.values().length)])
+                .principalAmount(principal)
+                .remainingAmount(remaining)
+                .interestRate(rate)
+                .endDate(endDate)
+                .build();
+    }
+}
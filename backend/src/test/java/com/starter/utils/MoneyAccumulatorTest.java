@@ -0,0 +1,74 @@
+package com.starter.utils;
+
+import com.starter.enums.PaymentCategory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyAccumulatorTest {
+
+    private static final int TOTAL = 0;
+    private static final int PAID = 1;
+
+    @Test
+    void accumulatesPerKeyAndSlot() {
+        MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 2);
+        totals.add(PaymentCategory.RENT, TOTAL, 500_000);
+        totals.add(PaymentCategory.RENT, PAID, 500_000);
+        totals.add(PaymentCategory.RENT, TOTAL, 500_000);
+        totals.add(PaymentCategory.UTILITY, TOTAL, 30_000);
+
+        assertThat(totals.get(PaymentCategory.RENT, TOTAL)).isEqualTo(1_000_000L);
+        assertThat(totals.get(PaymentCategory.RENT, PAID)).isEqualTo(500_000L);
+        assertThat(totals.get(PaymentCategory.UTILITY, PAID)).isZero();
+        assertThat(totals.get(PaymentCategory.MAINTENANCE, TOTAL)).isZero();
+        assertThat(totals.sum(TOTAL)).isEqualTo(1_030_000L);
+        assertThat(totals.sum(PAID)).isEqualTo(500_000L);
+    }
+
+    @Test
+    void negativeAmountsReduceTheTotal() {
+        MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 1);
+        totals.add(PaymentCategory.UTILITY, TOTAL, 30_000);
+        totals.add(PaymentCategory.UTILITY, TOTAL, -45_000);
+
+        assertThat(totals.get(PaymentCategory.UTILITY, TOTAL)).isEqualTo(-15_000L);
+        assertThat(totals.toBigDecimalMap(TOTAL)).containsEntry("UTILITY", BigDecimal.valueOf(-15_000L));
+    }
+
+    @Test
+    void touchRegistersKeyWithZeroTotals() {
+        MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 2);
+        assertThat(totals.isEmpty()).isTrue();
+
+        totals.touch(PaymentCategory.LOAN);
+
+        assertThat(totals.isEmpty()).isFalse();
+        assertThat(totals.toBigDecimalMap(PAID)).containsExactly(Map.entry("LOAN", BigDecimal.ZERO));
+    }
+
+    @Test
+    void bigDecimalMapFollowsEnumOrder() {
+        MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 1);
+        PaymentCategory[] categories = PaymentCategory.values();
+        for (int i = categories.length - 1; i >= 0; i--) {
+            totals.add(categories[i], TOTAL, i);
+        }
+
+        assertThat(totals.toBigDecimalMap(TOTAL).keySet())
+                .containsExactly(Arrays.stream(categories).map(Enum::name).toArray(String[]::new));
+    }
+
+    @Test
+    void overflowIsNotSilentlyWrapped() {
+        MoneyAccumulator<PaymentCategory> totals = new MoneyAccumulator<>(PaymentCategory.class, 1);
+        totals.add(PaymentCategory.RENT, TOTAL, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> totals.add(PaymentCategory.RENT, TOTAL, 1)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.starter.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// long 원 단위 계산이 BigDecimal HALF_UP 과 같은 결과를 내는지 확인
+class MoneyTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void ofRoundsToWholeWonHalfUp() {
+        assertThat(Money.of(new BigDecimal("1000.5"))).isEqualTo(1001L);
+        assertThat(Money.of(new BigDecimal("1000.49"))).isEqualTo(1000L);
+        assertThat(Money.of(new BigDecimal("1E+3"))).isEqualTo(1000L);
+        assertThat(Money.of(null)).isZero();
+    }
+
+    @Test
+    void ofRoundsNegativeAmountsAwayFromZero() {
+        assertThat(Money.of(new BigDecimal("-1000.5"))).isEqualTo(-1001L);
+        assertThat(Money.of(new BigDecimal("-1000.49"))).isEqualTo(-1000L);
+    }
+
+    @Test
+    void ofMatchesSetScaleHalfUp() {
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), random.nextInt(4));
+            assertThat(Money.of(amount))
+                    .as("amount %s", amount)
+                    .isEqualTo(amount.setScale(0, RoundingMode.HALF_UP).longValueExact());
+        }
+    }
+
+    @Test
+    void unscaledRoundsToRequestedScale() {
+        assertThat(Money.unscaled(new BigDecimal("3.25"), 2)).isEqualTo(325L);
+        assertThat(Money.unscaled(new BigDecimal("3.255"), 2)).isEqualTo(326L);
+        assertThat(Money.unscaled(new BigDecimal("-3.255"), 2)).isEqualTo(-326L);
+        assertThat(Money.unscaled(null, 2)).isZero();
+    }
+
+    @Test
+    void divideHalfUpMatchesBigDecimalForAllSigns() {
+        for (int i = 0; i < 10_000; i++) {
+            long dividend = random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            long divisor = random.nextLong(1, 100_000L) * (random.nextBoolean() ? 1 : -1);
+            long expected = BigDecimal.valueOf(dividend)
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+            assertThat(Money.divideHalfUp(dividend, divisor))
+                    .as("%d / %d", dividend, divisor)
+                    .isEqualTo(expected);
+        }
+        // 정확히 .5 인 경계
+        assertThat(Money.divideHalfUp(5, 2)).isEqualTo(3L);
+        assertThat(Money.divideHalfUp(-5, 2)).isEqualTo(-3L);
+        assertThat(Money.divideHalfUp(5, -2)).isEqualTo(-3L);
+    }
+
+    @Test
+    void divideHalfUpRejectsZeroDivisor() {
+        assertThatThrownBy(() -> Money.divideHalfUp(1, 0)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void mulDivHalfUpFallsBackToBigIntegerOnOverflow() {
+        long a = Long.MAX_VALUE / 2;
+        long expected = BigDecimal.valueOf(a).multiply(BigDecimal.valueOf(10))
+                .divide(BigDecimal.valueOf(20), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+        assertThat(Money.mulDivHalfUp(a, 10, 20)).isEqualTo(expected);
+    }
+
+    @Test
+    void addAndSubtractThrowOnOverflow() {
+        assertThatThrownBy(() -> Money.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtract(Long.MIN_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThat(Money.add(-500, 200)).isEqualTo(-300L);
+    }
+
+    @Test
+    void percentChangeRoundsToScale() {
+        // (630000 - 620000) / 620000 * 100 = 1.6129... -> 1.6
+        assertThat(Money.percentChange(630_000, 620_000, 1)).isEqualTo(16L);
+        // (600000 - 620000) / 620000 * 100 = -3.2258... -> -3.2
+        assertThat(Money.percentChange(600_000, 620_000, 1)).isEqualTo(-32L);
+        assertThat(Money.toBigDecimal(Money.percentChange(630_000, 620_000, 1), 1)).isEqualByComparingTo("1.6");
+    }
+}